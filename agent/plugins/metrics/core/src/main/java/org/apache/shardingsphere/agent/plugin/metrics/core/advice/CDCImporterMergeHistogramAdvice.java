@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.util.AgentReflectionUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CDC importer merge histogram advice.
+ */
+public final class CDCImporterMergeHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration queueDepthConfig = new MetricConfiguration("cdc_importer_merge_queue_depth",
+            MetricCollectorType.HISTOGRAM, "Transactions waiting in CSN ordered merge queue of CDC importer", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap(1)));
+    
+    private final MetricConfiguration headOfLineWaitConfig = new MetricConfiguration("cdc_importer_head_of_line_wait_millis",
+            MetricCollectorType.HISTOGRAM, "Milliseconds the oldest CSN transaction waited in merge queue of CDC importer", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap(1)));
+    
+    private static Map<String, Object> getBucketsMap(final int start) {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", start);
+        result.put("factor", 4);
+        result.put("count", 10);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        if ("updateMergeQueueDepth".equals(method.getName())) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(queueDepthConfig, pluginType).observe(AgentReflectionUtils.<Integer>getFieldValue(target, "mergeQueueDepth"));
+        }
+        if ("updateHeadOfLineWaitMillis".equals(method.getName())) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(headOfLineWaitConfig, pluginType).observe(AgentReflectionUtils.<Long>getFieldValue(target, "headOfLineWaitMillis"));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.util.AgentReflectionUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CDC streaming histogram advice.
+ */
+public final class CDCStreamingHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration recordsConfig = new MetricConfiguration("cdc_streaming_frame_records",
+            MetricCollectorType.HISTOGRAM, "Records per CDC streaming frame", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap(1)));
+    
+    private final MetricConfiguration bytesConfig = new MetricConfiguration("cdc_streaming_frame_bytes",
+            MetricCollectorType.HISTOGRAM, "Serialized bytes per CDC streaming frame", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap(1024)));
+    
+    private final MetricConfiguration lagConfig = new MetricConfiguration("cdc_streaming_lag_millis",
+            MetricCollectorType.HISTOGRAM, "Lag milliseconds from latest record commit to CDC streaming frame", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap(1)));
+    
+    private static Map<String, Object> getBucketsMap(final int start) {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", start);
+        result.put("factor", 4);
+        result.put("count", 10);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(recordsConfig, pluginType).observe(((Collection<?>) args[0]).size());
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(bytesConfig, pluginType).observe((int) args[1]);
+        long lagMillis = AgentReflectionUtils.<Long>getFieldValue(target, "lagMillis");
+        if (0L != lagMillis) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(lagConfig, pluginType).observe(lagMillis);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.util.AgentReflectionUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pipeline ring buffer channel occupancy histogram advice.
+ */
+public final class PipelineRingBufferChannelOccupancyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("pipeline_ring_buffer_channel_occupied_percent",
+            MetricCollectorType.HISTOGRAM, "Occupied slots percent of pipeline ring buffer channel after each push", Collections.emptyList(),
+            Collections.singletonMap("buckets", getBucketsMap()));
+    
+    private static Map<String, Object> getBucketsMap() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "linear");
+        result.put("start", 10);
+        result.put("width", 10);
+        result.put("count", 10);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        int capacity = AgentReflectionUtils.<Object[]>getFieldValue(target, "slots").length;
+        long occupiedSlotsCount = AgentReflectionUtils.<AtomicLong>getFieldValue(target, "tail").get() - AgentReflectionUtils.<AtomicLong>getFieldValue(target, "head").get();
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(occupiedSlotsCount * 100D / capacity);
+    }
+}
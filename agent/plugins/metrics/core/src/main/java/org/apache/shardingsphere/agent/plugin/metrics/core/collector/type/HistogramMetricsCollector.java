@@ -30,4 +30,12 @@ public interface HistogramMetricsCollector extends MetricsCollector {
      * @param value value
      */
     void observe(double value);
+    
+    /**
+     * Observed by value with labels.
+     *
+     * @param value value
+     * @param labels labels
+     */
+    void observe(double value, String... labels);
 }
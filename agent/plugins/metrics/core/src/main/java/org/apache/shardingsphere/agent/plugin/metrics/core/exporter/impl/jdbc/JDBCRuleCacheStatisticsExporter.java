@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc;
+
+import org.apache.shardingsphere.agent.plugin.core.context.ShardingSphereDataSourceContext;
+import org.apache.shardingsphere.agent.plugin.core.holder.ShardingSphereDataSourceContextHolder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
+
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * JDBC rule cache statistics exporter.
+ */
+public final class JDBCRuleCacheStatisticsExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("jdbc_rule_cache_stats", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Rule cache statistics of ShardingSphere-JDBC. hit_count, miss_count and eviction_count are cumulative; size is estimated entry count",
+            Arrays.asList("driver_instance", "database", "cache", "name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, ShardingSphereDataSourceContext> entry : ShardingSphereDataSourceContextHolder.getShardingSphereDataSourceContexts().entrySet()) {
+            ShardingSphereDatabase database = entry.getValue().getContextManager().getDatabase(entry.getValue().getDatabaseName());
+            if (null == database) {
+                continue;
+            }
+            for (CacheRuleAttribute each : database.getRuleMetaData().getAttributes(CacheRuleAttribute.class)) {
+                CacheStatistics statistics = each.getStatistics();
+                result.addMetric(Arrays.asList(entry.getKey(), database.getName(), each.getCacheName(), "hit_count"), statistics.getHitCount());
+                result.addMetric(Arrays.asList(entry.getKey(), database.getName(), each.getCacheName(), "miss_count"), statistics.getMissCount());
+                result.addMetric(Arrays.asList(entry.getKey(), database.getName(), each.getCacheName(), "eviction_count"), statistics.getEvictionCount());
+                result.addMetric(Arrays.asList(entry.getKey(), database.getName(), each.getCacheName(), "size"), statistics.getSize());
+            }
+        }
+        return Optional.of(result);
+    }
+}
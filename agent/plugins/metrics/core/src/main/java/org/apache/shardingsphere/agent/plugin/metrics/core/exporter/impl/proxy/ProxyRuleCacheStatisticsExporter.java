@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Proxy rule cache statistics exporter.
+ */
+public final class ProxyRuleCacheStatisticsExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_rule_cache_stats", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Rule cache statistics of ShardingSphere-Proxy. hit_count, miss_count and eviction_count are cumulative; size is estimated entry count",
+            Arrays.asList("database", "cache", "name"));
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getAllDatabases()) {
+            for (CacheRuleAttribute attribute : each.getRuleMetaData().getAttributes(CacheRuleAttribute.class)) {
+                CacheStatistics statistics = attribute.getStatistics();
+                result.addMetric(Arrays.asList(each.getName(), attribute.getCacheName(), "hit_count"), statistics.getHitCount());
+                result.addMetric(Arrays.asList(each.getName(), attribute.getCacheName(), "miss_count"), statistics.getMissCount());
+                result.addMetric(Arrays.asList(each.getName(), attribute.getCacheName(), "eviction_count"), statistics.getEvictionCount());
+                result.addMetric(Arrays.asList(each.getName(), attribute.getCacheName(), "size"), statistics.getSize());
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class CDCImporterMergeHistogramAdviceTest {
+    
+    private final MetricConfiguration queueDepthConfig = new MetricConfiguration("cdc_importer_merge_queue_depth", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    private final MetricConfiguration headOfLineWaitConfig = new MetricConfiguration("cdc_importer_head_of_line_wait_millis", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(queueDepthConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(headOfLineWaitConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertAfterUpdateMergeQueueDepth() {
+        new CDCImporterMergeHistogramAdvice().afterMethod(new ImporterMetricsFixture(3, 40L), new TargetAdviceMethod("updateMergeQueueDepth"), new Object[]{3}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(queueDepthConfig, "FIXTURE").toString(), is("3"));
+        assertThat(MetricsCollectorRegistry.get(headOfLineWaitConfig, "FIXTURE").toString(), is("0"));
+    }
+    
+    @Test
+    void assertAfterUpdateHeadOfLineWaitMillis() {
+        new CDCImporterMergeHistogramAdvice().afterMethod(new ImporterMetricsFixture(3, 40L), new TargetAdviceMethod("updateHeadOfLineWaitMillis"), new Object[]{40L}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(queueDepthConfig, "FIXTURE").toString(), is("0"));
+        assertThat(MetricsCollectorRegistry.get(headOfLineWaitConfig, "FIXTURE").toString(), is("40"));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @Setter
+    private static final class ImporterMetricsFixture implements TargetAdviceObject {
+        
+        private final int mergeQueueDepth;
+        
+        private final long headOfLineWaitMillis;
+        
+        private Object attachment;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+class CDCStreamingHistogramAdviceTest {
+    
+    private final MetricConfiguration recordsConfig = new MetricConfiguration("cdc_streaming_frame_records", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    private final MetricConfiguration bytesConfig = new MetricConfiguration("cdc_streaming_frame_bytes", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    private final MetricConfiguration lagConfig = new MetricConfiguration("cdc_streaming_lag_millis", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(recordsConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(bytesConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(lagConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertAfterMethod() {
+        new CDCStreamingHistogramAdvice().afterMethod(new StreamingMetricsFixture(20L), mock(TargetAdviceMethod.class), new Object[]{Arrays.asList("foo", "bar"), 512}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(recordsConfig, "FIXTURE").toString(), is("2"));
+        assertThat(MetricsCollectorRegistry.get(bytesConfig, "FIXTURE").toString(), is("512"));
+        assertThat(MetricsCollectorRegistry.get(lagConfig, "FIXTURE").toString(), is("20"));
+    }
+    
+    @Test
+    void assertAfterMethodWithoutLag() {
+        new CDCStreamingHistogramAdvice().afterMethod(new StreamingMetricsFixture(0L), mock(TargetAdviceMethod.class), new Object[]{Collections.emptyList(), 16}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(bytesConfig, "FIXTURE").toString(), is("16"));
+        assertThat(MetricsCollectorRegistry.get(lagConfig, "FIXTURE").toString(), is("0"));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @Setter
+    private static final class StreamingMetricsFixture implements TargetAdviceObject {
+        
+        private final long lagMillis;
+        
+        private Object attachment;
+    }
+}
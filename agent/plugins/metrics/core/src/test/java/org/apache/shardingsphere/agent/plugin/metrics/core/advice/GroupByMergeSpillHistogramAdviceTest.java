@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+class GroupByMergeSpillHistogramAdviceTest {
+    
+    private final MetricConfiguration rowsConfig = new MetricConfiguration("group_by_merge_spilled_rows", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    private final MetricConfiguration bytesConfig = new MetricConfiguration("group_by_merge_spilled_bytes", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(rowsConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(bytesConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertAfterMethod() {
+        new GroupByMergeSpillHistogramAdvice().afterMethod(new SpilledPartitionsFixture(10L, 4096L), mock(TargetAdviceMethod.class), new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(rowsConfig, "FIXTURE").toString(), is("10"));
+        assertThat(MetricsCollectorRegistry.get(bytesConfig, "FIXTURE").toString(), is("4096"));
+    }
+    
+    @Test
+    void assertAfterMethodWithoutSpilledRows() {
+        new GroupByMergeSpillHistogramAdvice().afterMethod(new SpilledPartitionsFixture(0L, 0L), mock(TargetAdviceMethod.class), new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(rowsConfig, "FIXTURE").toString(), is("0"));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @Setter
+    private static final class SpilledPartitionsFixture implements TargetAdviceObject {
+        
+        private final long spilledRowCount;
+        
+        private final long spilledBytes;
+        
+        private Object attachment;
+    }
+}
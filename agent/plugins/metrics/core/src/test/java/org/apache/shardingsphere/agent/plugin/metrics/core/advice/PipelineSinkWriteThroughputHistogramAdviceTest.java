@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+class PipelineSinkWriteThroughputHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("pipeline_sink_write_records_per_second", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertAfterMethod() {
+        PipelineSinkWriteThroughputHistogramAdvice advice = new PipelineSinkWriteThroughputHistogramAdvice();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        Object[] args = new Object[]{"ack", Arrays.asList(new Object(), new Object(), new Object())};
+        advice.beforeMethod(new TargetAdviceObjectFixture(), method, args, "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), method, args, null, "FIXTURE");
+        assertThat(Integer.parseInt(MetricsCollectorRegistry.get(config, "FIXTURE").toString()), allOf(greaterThan(0), lessThanOrEqualTo(3000)));
+    }
+    
+    @Test
+    void assertAfterMethodWithoutRecords() {
+        PipelineSinkWriteThroughputHistogramAdvice advice = new PipelineSinkWriteThroughputHistogramAdvice();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        Object[] args = new Object[]{"ack", Collections.emptyList()};
+        advice.beforeMethod(new TargetAdviceObjectFixture(), method, args, "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), method, args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc;
+
+import org.apache.shardingsphere.agent.plugin.core.context.ShardingSphereDataSourceContext;
+import org.apache.shardingsphere.agent.plugin.core.holder.ShardingSphereDataSourceContextHolder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDBCRuleCacheStatisticsExporterTest {
+    
+    private String instanceId;
+    
+    @BeforeEach
+    void setUp() {
+        instanceId = UUID.randomUUID().toString();
+        ShardingSphereDataSourceContextHolder.put(instanceId, new ShardingSphereDataSourceContext("foo_db", mockContextManager()));
+    }
+    
+    private ContextManager mockContextManager() {
+        CacheRuleAttribute attribute = mock(CacheRuleAttribute.class);
+        when(attribute.getCacheName()).thenReturn("sharding_route");
+        when(attribute.getStatistics()).thenReturn(new CacheStatistics(4L, 3L, 2L, 1L));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getRuleMetaData().getAttributes(CacheRuleAttribute.class)).thenReturn(Collections.singleton(attribute));
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        return result;
+    }
+    
+    @AfterEach
+    void clean() {
+        MetricConfiguration config = new MetricConfiguration("jdbc_rule_cache_stats",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("driver_instance", "database", "cache", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        ShardingSphereDataSourceContextHolder.remove(instanceId);
+    }
+    
+    @Test
+    void assertExport() {
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new JDBCRuleCacheStatisticsExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), containsString(instanceId));
+        assertThat(collector.get().toString(), containsString("sharding_route=10"));
+        assertThat(collector.get().toString(), containsString("hit_count=4"));
+        assertThat(collector.get().toString(), containsString("eviction_count=2"));
+    }
+}
@@ -26,8 +26,10 @@ import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfig
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCRuleCacheStatisticsExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyRuleCacheStatisticsExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -78,11 +80,13 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyRuleCacheStatisticsExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
         new PrometheusMetricsExporter(new JDBCStateExporter()).register();
         new PrometheusMetricsExporter(new JDBCMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new JDBCRuleCacheStatisticsExporter()).register();
     }
     
     private InetSocketAddress getSocketAddress(final PluginConfiguration pluginConfig) {
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.loader.type;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table fingerprint loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableFingerprintLoader {
+    
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final String COLUMN_NAME = "COLUMN_NAME";
+    
+    private static final String DATA_TYPE = "DATA_TYPE";
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    private static final String COLUMN_SIZE = "COLUMN_SIZE";
+    
+    private static final String DECIMAL_DIGITS = "DECIMAL_DIGITS";
+    
+    private static final String IS_NULLABLE = "IS_NULLABLE";
+    
+    /**
+     * Load fingerprints of all tables in current catalog and schema, fingerprint is digest of column definitions.
+     *
+     * @param connection connection
+     * @return table name and fingerprint map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Long> load(final Connection connection) throws SQLException {
+        Map<String, CRC32> digests = new HashMap<>();
+        try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+            while (resultSet.next()) {
+                CRC32 digest = digests.computeIfAbsent(resultSet.getString(TABLE_NAME), key -> new CRC32());
+                String columnDefinition = String.join(",", resultSet.getString(COLUMN_NAME), String.valueOf(resultSet.getInt(DATA_TYPE)), resultSet.getString(TYPE_NAME),
+                        String.valueOf(resultSet.getInt(COLUMN_SIZE)), String.valueOf(resultSet.getInt(DECIMAL_DIGITS)), resultSet.getString(IS_NULLABLE)) + ";";
+                digest.update(columnDefinition.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, Long> result = new HashMap<>(digests.size(), 1F);
+        for (Entry<String, CRC32> entry : digests.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return result;
+    }
+}
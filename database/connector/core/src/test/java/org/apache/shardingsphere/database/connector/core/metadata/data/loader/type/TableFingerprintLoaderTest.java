@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.loader.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableFingerprintLoaderTest {
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Map<String, Long> actual = TableFingerprintLoader.load(mockConnection("varchar", "varchar"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_tbl"), is(TableFingerprintLoader.load(mockConnection("varchar", "varchar")).get("foo_tbl")));
+    }
+    
+    @Test
+    void assertLoadWithChangedColumn() throws SQLException {
+        Map<String, Long> expected = TableFingerprintLoader.load(mockConnection("varchar", "varchar"));
+        Map<String, Long> actual = TableFingerprintLoader.load(mockConnection("varchar", "text"));
+        assertThat(actual.get("foo_tbl"), is(expected.get("foo_tbl")));
+        assertThat(actual.get("bar_tbl"), not(expected.get("bar_tbl")));
+    }
+    
+    private Connection mockConnection(final String fooColumnTypeName, final String barColumnTypeName) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getCatalog()).thenReturn("foo_catalog");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getMetaData().getColumns("foo_catalog", null, "%", "%")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("foo_tbl", "foo_tbl", "bar_tbl");
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("id", "name", "name");
+        when(resultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR, Types.VARCHAR);
+        when(resultSet.getString("TYPE_NAME")).thenReturn("int", fooColumnTypeName, barColumnTypeName);
+        when(resultSet.getInt("COLUMN_SIZE")).thenReturn(11, 64, 64);
+        when(resultSet.getInt("DECIMAL_DIGITS")).thenReturn(0, 0, 0);
+        when(resultSet.getString("IS_NULLABLE")).thenReturn("NO", "YES", "YES");
+        return result;
+    }
+}
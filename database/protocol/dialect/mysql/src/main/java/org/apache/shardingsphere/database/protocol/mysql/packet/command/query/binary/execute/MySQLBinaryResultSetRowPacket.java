@@ -17,26 +17,56 @@
 
 package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * Binary result set row packet for MySQL.
  * 
  * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
  */
-@RequiredArgsConstructor
 public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
     private static final int PACKET_HEADER = 0x00;
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final List<? extends BinaryColumnType> columnTypes;
+    
+    private final List<?> cells;
+    
+    private final Function<Object, Object> valueExtractor;
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        this(getColumnTypes(row), new ArrayList<>(row.getCells()), BinaryCell::getData);
+    }
+    
+    public MySQLBinaryResultSetRowPacket(final List<? extends BinaryColumnType> columnTypes, final List<Object> values) {
+        this(columnTypes, values, Function.identity());
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T> MySQLBinaryResultSetRowPacket(final List<? extends BinaryColumnType> columnTypes, final List<T> cells, final Function<? super T, Object> valueExtractor) {
+        this.columnTypes = columnTypes;
+        this.cells = cells;
+        this.valueExtractor = (Function<Object, Object>) valueExtractor;
+    }
+    
+    private static List<BinaryColumnType> getColumnTypes(final BinaryRow row) {
+        List<BinaryColumnType> result = new ArrayList<>(row.getCells().size());
+        for (BinaryCell each : row.getCells()) {
+            result.add(each.getColumnType());
+        }
+        return result;
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
@@ -46,28 +76,26 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
+        int columnCount = cells.size();
+        int bitmapLength = (columnCount + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int byteIndex = 0; byteIndex < bitmapLength; byteIndex++) {
+            int nullBits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < columnCount && null == valueExtractor.apply(cells.get(columnIndex))) {
+                    nullBits |= 1 << bitIndex;
+                }
             }
-            index++;
+            payload.writeInt1(nullBits);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
+        int columnCount = cells.size();
+        for (int i = 0; i < columnCount; i++) {
+            Object data = valueExtractor.apply(cells.get(i));
             if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i)).write(payload, data);
             }
         }
     }
@@ -27,7 +27,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,4 +48,14 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteWithNullBitmapAcrossBytes() {
+        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(Collections.nCopies(7, MySQLBinaryColumnType.LONG), Arrays.asList(1, null, 3, 4, 5, 6, null));
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeInt1(0x01);
+        verify(payload, times(5)).writeInt4(anyInt());
+    }
 }
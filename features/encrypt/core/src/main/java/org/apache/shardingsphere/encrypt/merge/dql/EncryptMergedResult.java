@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.exception.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -30,6 +33,8 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,6 +48,8 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
         super(mergedResult);
         this.database = database;
@@ -52,9 +59,23 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = getColumnDecryptor(columnIndex);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(getMergedResult().getValue(columnIndex, Object.class)) : getMergedResult().getValue(columnIndex, type);
+    }
+    
+    private Optional<ColumnDecryptor> getColumnDecryptor(final int columnIndex) {
+        Optional<ColumnDecryptor> result = columnDecryptors.get(columnIndex);
+        if (null == result) {
+            result = createColumnDecryptor(columnIndex);
+            columnDecryptors.put(columnIndex, result);
+        }
+        return result;
+    }
+    
+    private Optional<ColumnDecryptor> createColumnDecryptor(final int columnIndex) {
         Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
         if (!columnSegmentBoundInfo.isPresent()) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
         String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
@@ -63,18 +84,33 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
+        return Optional.of(new ColumnDecryptor(encryptColumn.getCipher(), new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName)));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final CipherColumnItem cipher;
+        
+        private final AlgorithmSQLContext algorithmSQLContext;
+        
+        private Object decrypt(final Object cipherValue) {
+            if (null == cipherValue) {
+                return null;
+            }
+            try {
+                return cipher.getEncryptor().decrypt(cipherValue, algorithmSQLContext);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue),
+                        new SQLExceptionIdentifier(algorithmSQLContext.getDatabaseName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName()), ex);
+            }
         }
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe, which probes replication lag of read data sources and caches it in readwrite-splitting data source group rules.
+ */
+@Slf4j
+public final class ReplicationLagProbe {
+    
+    private static final long FAILURE_LOG_INTERVAL_MILLISECONDS = TimeUnit.MINUTES.toMillis(1L);
+    
+    private final long maxLagMilliseconds;
+    
+    private final int queryTimeoutSeconds;
+    
+    private final Map<String, Long> failureLogTimes = new ConcurrentHashMap<>();
+    
+    public ReplicationLagProbe(final long maxLagMilliseconds, final long probeIntervalMilliseconds) {
+        this.maxLagMilliseconds = maxLagMilliseconds;
+        queryTimeoutSeconds = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(probeIntervalMilliseconds)));
+    }
+    
+    /**
+     * Probe replication lag of all read data sources.
+     *
+     * @param metaData meta data
+     */
+    public void probe(final ShardingSphereMetaData metaData) {
+        for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+            for (ReadwriteSplittingRule rule : each.getRuleMetaData().findRules(ReadwriteSplittingRule.class)) {
+                rule.getDataSourceRuleGroups().values().forEach(groupRule -> probe(each, groupRule));
+            }
+        }
+    }
+    
+    private void probe(final ShardingSphereDatabase database, final ReadwriteSplittingDataSourceGroupRule groupRule) {
+        for (String each : groupRule.getReadwriteSplittingGroup().getReadDataSources()) {
+            StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(each);
+            Optional<Long> lagMilliseconds = null == storageUnit ? Optional.empty() : loadReplicationLag(database.getName(), each, storageUnit);
+            if (lagMilliseconds.isPresent()) {
+                groupRule.updateReplicationLag(each, lagMilliseconds.get(), maxLagMilliseconds);
+            } else {
+                groupRule.clearReplicationLag(each);
+            }
+        }
+    }
+    
+    private Optional<Long> loadReplicationLag(final String databaseName, final String dataSourceName, final StorageUnit storageUnit) {
+        Optional<ReplicationLagLoader> loader = DatabaseTypedSPILoader.findService(ReplicationLagLoader.class, storageUnit.getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        String failureKey = databaseName + "." + dataSourceName;
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            Optional<Long> result = loader.get().load(connection, queryTimeoutSeconds);
+            failureLogTimes.remove(failureKey);
+            return result;
+        } catch (final SQLException ex) {
+            logFailure(failureKey, databaseName, dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private void logFailure(final String failureKey, final String databaseName, final String dataSourceName, final SQLException ex) {
+        long currentTimeMillis = System.currentTimeMillis();
+        Long lastLogTimeMillis = failureLogTimes.get(failureKey);
+        if (null == lastLogTimeMillis || currentTimeMillis - lastLogTimeMillis >= FAILURE_LOG_INTERVAL_MILLISECONDS) {
+            failureLogTimes.put(failureKey, currentTimeMillis);
+            log.warn("Load replication lag of data source `{}` in database `{}` failed, repeated failures are logged at most once per minute.", dataSourceName, databaseName, ex);
+        } else {
+            log.debug("Load replication lag of data source `{}` in database `{}` failed.", dataSourceName, databaseName, ex);
+        }
+    }
+}
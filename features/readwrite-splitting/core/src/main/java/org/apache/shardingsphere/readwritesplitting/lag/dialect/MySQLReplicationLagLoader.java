@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagLoader;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag loader for MySQL.
+ */
+public final class MySQLReplicationLagLoader implements ReplicationLagLoader {
+    
+    @Override
+    public Optional<Long> load(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try {
+            return load(connection, queryTimeoutSeconds, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (final SQLException ignored) {
+            return load(connection, queryTimeoutSeconds, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+    
+    private Optional<Long> load(final Connection connection, final int queryTimeoutSeconds, final String sql, final String lagColumnLabel) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            return load(statement, sql, lagColumnLabel);
+        }
+    }
+    
+    private Optional<Long> load(final Statement statement, final String sql, final String lagColumnLabel) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            Long result = null;
+            while (resultSet.next()) {
+                long lagSeconds = resultSet.getLong(lagColumnLabel);
+                long lagMilliseconds = resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(lagSeconds);
+                result = null == result ? lagMilliseconds : Math.max(result, lagMilliseconds);
+            }
+            return Optional.ofNullable(result);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
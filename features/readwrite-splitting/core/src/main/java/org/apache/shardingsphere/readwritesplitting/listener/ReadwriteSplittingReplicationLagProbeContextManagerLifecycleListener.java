@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readwrite splitting replication lag probe context manager lifecycle listener.
+ */
+@Slf4j
+public final class ReadwriteSplittingReplicationLagProbeContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<ContextManager, ScheduledExecutorService> executors = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        ConfigurationProperties props = contextManager.getMetaDataContexts().getMetaData().getProps();
+        long maxLagMilliseconds = props.<Long>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS);
+        if (maxLagMilliseconds <= 0L) {
+            return;
+        }
+        long probeIntervalMilliseconds = props.<Long>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("readwrite-splitting-replication-lag-probe-%d"));
+        executors.put(contextManager, executor);
+        ReplicationLagProbe probe = new ReplicationLagProbe(maxLagMilliseconds, probeIntervalMilliseconds);
+        executor.scheduleWithFixedDelay(() -> probe(contextManager, probe), 0L, probeIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void probe(final ContextManager contextManager, final ReplicationLagProbe probe) {
+        try {
+            probe.probe(contextManager.getMetaDataContexts().getMetaData());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Probe replication lag failed.", ex);
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        ScheduledExecutorService executor = executors.remove(contextManager);
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -19,10 +19,11 @@ package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.LaggingReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,16 +31,19 @@ import java.util.List;
  */
 public final class StandardReadwriteSplittingDataSourceRouter {
     
-    private static final Collection<ReadDataSourcesFilter> FILTERS = Collections.singleton(new DisabledReadDataSourcesFilter());
+    private static final Collection<ReadDataSourcesFilter> FILTERS = Arrays.asList(new DisabledReadDataSourcesFilter(), new LaggingReadDataSourcesFilter());
     
     /**
      * Route to data source.
      *
+     * <p>Route to write data source if no read data source is available.</p>
+     *
      * @param rule Readwrite-splitting data source rule
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> readDataSources = getFilteredReadDataSources(rule);
+        return readDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getDatabaseName(), rule.getName(), readDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
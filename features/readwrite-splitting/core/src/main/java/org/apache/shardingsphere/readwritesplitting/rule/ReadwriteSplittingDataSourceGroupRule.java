@@ -26,6 +26,7 @@ import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalRea
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source group rule.
@@ -33,6 +34,8 @@ import java.util.HashSet;
 @Getter
 public final class ReadwriteSplittingDataSourceGroupRule {
     
+    private final String databaseName;
+    
     private final String name;
     
     private final TransactionalReadQueryStrategy transactionalReadQueryStrategy;
@@ -43,8 +46,11 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
-    public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+    private final Collection<String> laggingDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    public ReadwriteSplittingDataSourceGroupRule(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
+        this.databaseName = databaseName;
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
@@ -81,4 +87,28 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    /**
+     * Update replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     * @param lagMilliseconds replication lag in milliseconds
+     * @param maxLagMilliseconds max replication lag in milliseconds
+     */
+    public void updateReplicationLag(final String dataSourceName, final long lagMilliseconds, final long maxLagMilliseconds) {
+        if (lagMilliseconds > maxLagMilliseconds) {
+            laggingDataSourceNames.add(dataSourceName);
+        } else {
+            laggingDataSourceNames.remove(dataSourceName);
+        }
+    }
+    
+    /**
+     * Clear replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     */
+    public void clearReplicationLag(final String dataSourceName) {
+        laggingDataSourceNames.remove(dataSourceName);
+    }
 }
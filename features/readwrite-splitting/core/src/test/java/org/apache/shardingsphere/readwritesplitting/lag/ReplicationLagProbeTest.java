@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(DatabaseTypedSPILoader.class)
+class ReplicationLagProbeTest {
+    
+    private final ReplicationLagLoader loader = mock(ReplicationLagLoader.class);
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private ReadwriteSplittingDataSourceGroupRule groupRule;
+    
+    private ShardingSphereMetaData metaData;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        groupRule = new ReadwriteSplittingDataSourceGroupRule("foo_db",
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        ReadwriteSplittingRule rule = mock(ReadwriteSplittingRule.class);
+        when(rule.getDataSourceRuleGroups()).thenReturn(Collections.singletonMap("foo_group", groupRule));
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getDataSource().getConnection()).thenReturn(connection);
+        when(DatabaseTypedSPILoader.findService(ReplicationLagLoader.class, storageUnit.getStorageType())).thenReturn(Optional.of(loader));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getRuleMetaData().findRules(ReadwriteSplittingRule.class)).thenReturn(Collections.singleton(rule));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("read_ds_0", storageUnit));
+        metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getAllDatabases()).thenReturn(Collections.singleton(database));
+    }
+    
+    @Test
+    void assertProbeWithLaggingDataSource() throws SQLException {
+        when(loader.load(connection, 1)).thenReturn(Optional.of(2000L));
+        new ReplicationLagProbe(1000L, 1000L).probe(metaData);
+        assertThat(groupRule.getLaggingDataSourceNames(), is(Collections.singleton("read_ds_0")));
+    }
+    
+    @Test
+    void assertProbeWithoutLaggingDataSource() throws SQLException {
+        when(loader.load(connection, 1)).thenReturn(Optional.of(500L));
+        groupRule.updateReplicationLag("read_ds_0", 2000L, 1000L);
+        new ReplicationLagProbe(1000L, 1000L).probe(metaData);
+        assertThat(groupRule.getLaggingDataSourceNames(), is(Collections.emptySet()));
+    }
+    
+    @Test
+    void assertProbeWithLoadFailure() throws SQLException {
+        when(loader.load(connection, 1)).thenThrow(SQLException.class);
+        groupRule.updateReplicationLag("read_ds_0", 2000L, 1000L);
+        groupRule.updateReplicationLag("read_ds_1", 2000L, 1000L);
+        new ReplicationLagProbe(1000L, 1000L).probe(metaData);
+        assertThat(groupRule.getLaggingDataSourceNames(), is(Collections.emptySet()));
+    }
+    
+    @Test
+    void assertProbeWithQueryTimeoutBoundedByProbeInterval() throws SQLException {
+        when(loader.load(connection, 5)).thenReturn(Optional.of(2000L));
+        new ReplicationLagProbe(1000L, 5000L).probe(metaData);
+        assertThat(groupRule.getLaggingDataSourceNames(), is(Collections.singleton("read_ds_0")));
+    }
+    
+    @Test
+    void assertProbeWithRecoveredLoadFailure() throws SQLException {
+        when(loader.load(connection, 1)).thenThrow(SQLException.class).thenReturn(Optional.of(500L));
+        ReplicationLagProbe probe = new ReplicationLagProbe(1000L, 1000L);
+        probe.probe(metaData);
+        assertTrue(getFailureLogTimes(probe).containsKey("foo_db.read_ds_0"));
+        probe.probe(metaData);
+        assertTrue(getFailureLogTimes(probe).isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<String, Long> getFailureLogTimes(final ReplicationLagProbe probe) {
+        return (Map<String, Long>) Plugins.getMemberAccessor().get(ReplicationLagProbe.class.getDeclaredField("failureLogTimes"), probe);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.listener;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+class ReadwriteSplittingReplicationLagProbeContextManagerLifecycleListenerTest {
+    
+    private final ReadwriteSplittingReplicationLagProbeContextManagerLifecycleListener listener = new ReadwriteSplittingReplicationLagProbeContextManagerLifecycleListener();
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Test
+    void assertOnInitializedWithDisabledProbe() {
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        listener.onInitialized(contextManager);
+        assertTrue(getExecutors().isEmpty());
+    }
+    
+    @Test
+    void assertOnInitializedWithProbeFailure() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS.getKey(), "1000");
+        props.setProperty(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS.getKey(), "10");
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(props));
+        when(metaData.getAllDatabases()).thenThrow(IllegalStateException.class).thenReturn(Collections.emptyList());
+        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        listener.onInitialized(contextManager);
+        try {
+            verify(metaData, timeout(5000L).atLeast(2)).getAllDatabases();
+            assertFalse(getExecutors().isEmpty());
+        } finally {
+            listener.onDestroyed(contextManager);
+        }
+        assertTrue(getExecutors().isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<ContextManager, ?> getExecutors() {
+        return (Map<ContextManager, ?>) Plugins.getMemberAccessor().get(ReadwriteSplittingReplicationLagProbeContextManagerLifecycleListener.class.getDeclaredField("executors"), listener);
+    }
+}
@@ -67,7 +67,7 @@ class ReadwriteSplittingDataSourceRouterTest {
     void assertRouteWithStandardRouters() {
         when(rule.getDisabledDataSourceNames()).thenReturn(Collections.emptyList());
         when(rule.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Collections.emptyList());
-        when(rule.getLoadBalancer().getTargetName(any(), any())).thenReturn("standard_ds");
+        when(rule.getLoadBalancer().getTargetName(any(), any(), any())).thenReturn("standard_ds");
         ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, mock(ConnectionContext.class));
         setQualifiedRouters(router, mock(QualifiedReadwriteSplittingDataSourceRouter.class));
         assertThat(router.route(sqlStatementContext, hintValueContext), is("standard_ds"));
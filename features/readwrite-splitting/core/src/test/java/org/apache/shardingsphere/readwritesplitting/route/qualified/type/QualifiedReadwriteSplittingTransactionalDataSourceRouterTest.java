@@ -43,14 +43,14 @@ class QualifiedReadwriteSplittingTransactionalDataSourceRouterTest {
     @Test
     void assertRouteWithFixedAndWithoutReadWriteSplitReplicaRoute() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupConfig = createDataSourceGroupRuleConfiguration();
-        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(dataSourceGroupConfig, TransactionalReadQueryStrategy.FIXED, new RoundRobinLoadBalanceAlgorithm());
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule("foo_db", dataSourceGroupConfig, TransactionalReadQueryStrategy.FIXED, new RoundRobinLoadBalanceAlgorithm());
         assertThat(new QualifiedReadwriteSplittingTransactionalDataSourceRouter(new ConnectionContext(Collections::emptySet)).route(rule), is("read_ds0"));
     }
     
     @Test
     void assertRouteWithFixedAndWithReadWriteSplitReplicaRoute() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupConfig = createDataSourceGroupRuleConfiguration();
-        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(dataSourceGroupConfig, TransactionalReadQueryStrategy.FIXED, new RoundRobinLoadBalanceAlgorithm());
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule("foo_db", dataSourceGroupConfig, TransactionalReadQueryStrategy.FIXED, new RoundRobinLoadBalanceAlgorithm());
         ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
         connectionContext.getTransactionContext().setReadWriteSplitReplicaRoute("read_ds1");
         assertThat(new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext).route(rule), is("read_ds1"));
@@ -59,13 +59,13 @@ class QualifiedReadwriteSplittingTransactionalDataSourceRouterTest {
     @Test
     void assertRouteWithDynamic() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupConfig = createDataSourceGroupRuleConfiguration();
-        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(dataSourceGroupConfig, TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule("foo_db", dataSourceGroupConfig, TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
         assertThat(new QualifiedReadwriteSplittingTransactionalDataSourceRouter(new ConnectionContext(Collections::emptySet)).route(rule), is("read_ds0"));
     }
     
     @Test
     void assertRouteWithPrimary() {
-        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(createDataSourceGroupRuleConfiguration(), TransactionalReadQueryStrategy.PRIMARY, null);
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule("foo_db", createDataSourceGroupRuleConfiguration(), TransactionalReadQueryStrategy.PRIMARY, null);
         assertThat(new QualifiedReadwriteSplittingTransactionalDataSourceRouter(new ConnectionContext(Collections::emptySet)).route(rule), is("write_ds"));
     }
     
@@ -35,7 +35,7 @@ class StandardReadwriteSplittingDataSourceRouterTest {
     
     @BeforeEach
     void setUp() {
-        rule = new ReadwriteSplittingDataSourceGroupRule(
+        rule = new ReadwriteSplittingDataSourceGroupRule("foo_db",
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_config", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
                 TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
     }
@@ -50,4 +50,17 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteWithLaggingDataSource() {
+        rule.updateReplicationLag("read_ds_0", 2000L, 1000L);
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertRouteToWriteDataSourceWhenAllReadDataSourcesLagging() {
+        rule.updateReplicationLag("read_ds_0", 2000L, 1000L);
+        rule.updateReplicationLag("read_ds_1", 2000L, 1000L);
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("write_ds"));
+    }
 }
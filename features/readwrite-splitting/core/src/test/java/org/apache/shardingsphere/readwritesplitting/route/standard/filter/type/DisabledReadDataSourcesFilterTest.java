@@ -36,7 +36,7 @@ class DisabledReadDataSourcesFilterTest {
     
     @BeforeEach
     void setUp() {
-        rule = new ReadwriteSplittingDataSourceGroupRule(
+        rule = new ReadwriteSplittingDataSourceGroupRule("foo_db",
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
                 TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
     }
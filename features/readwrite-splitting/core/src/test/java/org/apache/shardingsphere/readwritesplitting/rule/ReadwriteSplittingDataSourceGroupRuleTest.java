@@ -31,7 +31,7 @@ class ReadwriteSplittingDataSourceGroupRuleTest {
     
     @Test
     void assertGetWriteDataSource() {
-        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule(
+        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule("foo_db",
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null),
                 TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
         String writeDataSourceName = dataSourceGroupRule.getWriteDataSource();
@@ -39,7 +39,7 @@ class ReadwriteSplittingDataSourceMapperRuleAttributeTest {
     }
     
     private ReadwriteSplittingDataSourceMapperRuleAttribute createRuleAttribute() {
-        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule(
+        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule("foo_db",
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random"), null, null);
         return new ReadwriteSplittingDataSourceMapperRuleAttribute(Collections.singleton(dataSourceGroupRule));
     }
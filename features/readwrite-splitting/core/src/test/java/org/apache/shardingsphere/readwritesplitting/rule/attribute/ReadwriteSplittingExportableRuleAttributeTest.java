@@ -39,7 +39,7 @@ class ReadwriteSplittingExportableRuleAttributeTest {
         Map<String, ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules = new HashMap<>();
         dataSourceGroupRules.put("ignored_group", mock(ReadwriteSplittingDataSourceGroupRule.class));
         ReadwriteSplittingDataSourceGroupRuleConfiguration config = new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Arrays.asList("read_ds0", "read_ds1"), "foo_algo");
-        dataSourceGroupRules.put("foo_group", new ReadwriteSplittingDataSourceGroupRule(config, TransactionalReadQueryStrategy.FIXED, null));
+        dataSourceGroupRules.put("foo_group", new ReadwriteSplittingDataSourceGroupRule("foo_db", config, TransactionalReadQueryStrategy.FIXED, null));
         ReadwriteSplittingExportableRuleAttribute ruleAttribute = new ReadwriteSplittingExportableRuleAttribute(dataSourceGroupRules);
         Map<String, Object> actual = ruleAttribute.getExportData();
         assertThat(actual.size(), is(1));
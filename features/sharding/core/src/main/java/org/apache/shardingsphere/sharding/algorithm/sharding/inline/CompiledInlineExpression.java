@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Common inline sharding expressions, such as {@code t_order_${order_id % 4}} and {@code t_order_${Math.abs(order_id.hashCode()) % 4}},
+ * are compiled once and evaluated without Groovy. Supported shapes are literal text, integer literals, the sharding column, {@code column.hashCode()},
+ * {@code Math.abs(...)}, parentheses and the {@code + - * %} operators. Integer arithmetic follows the Groovy semantics,
+ * expressions or sharding values which can not be evaluated here are left to Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private final List<Node> nodes;
+    
+    private final Set<String> variableNames;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with placeholders handled
+     * @return compiled inline expression, empty if the expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Node> nodes = new LinkedList<>();
+        Set<String> variableNames = new HashSet<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf("${", index);
+            String literal = -1 == beginIndex ? inlineExpression.substring(index) : inlineExpression.substring(index, beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                nodes.add(new ConstantNode(literal));
+            }
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf('}', beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new Parser(inlineExpression.substring(beginIndex + 2, endIndex), variableNames).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            nodes.add(node.get());
+            index = endIndex + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(nodes, variableNames));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\');
+    }
+    
+    /**
+     * Evaluate.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, empty if the value can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!variableNames.isEmpty() && (1 != variableNames.size() || !variableNames.contains(columnName))) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        for (Node each : nodes) {
+            Object segment = each.evaluate(value);
+            if (null == segment) {
+                return Optional.empty();
+            }
+            result.append(segment);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private interface Node {
+        
+        Object evaluate(Comparable<?> value);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements Node {
+        
+        private final Object constant;
+        
+        @Override
+        public Object evaluate(final Comparable<?> value) {
+            return constant;
+        }
+    }
+    
+    private static final class VariableNode implements Node {
+        
+        @Override
+        public Object evaluate(final Comparable<?> value) {
+            if (value instanceof Integer || value instanceof Long || value instanceof String) {
+                return value;
+            }
+            if (value instanceof Short || value instanceof Byte) {
+                return ((Number) value).intValue();
+            }
+            return null;
+        }
+    }
+    
+    private static final class HashCodeNode implements Node {
+        
+        @Override
+        public Object evaluate(final Comparable<?> value) {
+            return value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Comparable<?> value) {
+            Object operandValue = operand.evaluate(value);
+            if (operandValue instanceof Integer) {
+                return Math.abs((int) (Integer) operandValue);
+            }
+            if (operandValue instanceof Long) {
+                return Math.abs((long) (Long) operandValue);
+            }
+            return null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Comparable<?> value) {
+            Object leftValue = left.evaluate(value);
+            Object rightValue = right.evaluate(value);
+            if (!isIntegral(leftValue) || !isIntegral(rightValue)) {
+                return null;
+            }
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return evaluate((int) (Integer) leftValue, (int) (Integer) rightValue);
+            }
+            return evaluate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        
+        private Object evaluate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? null : leftValue % rightValue;
+            }
+        }
+        
+        private Object evaluate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? null : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private final Set<String> variableNames;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result) {
+                skipWhitespace();
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parsePrimary();
+            while (null != result) {
+                skipWhitespace();
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parsePrimary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                return parseClosing(parseAdditive());
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if (Character.isLetter(current) || '_' == current) {
+                return parseIdentifier();
+            }
+            return null;
+        }
+        
+        private Node parseClosing(final Node node) {
+            skipWhitespace();
+            if (null == node || ')' != peek()) {
+                return null;
+            }
+            position++;
+            return node;
+        }
+        
+        private Node parseNumber() {
+            int beginIndex = position;
+            while (Character.isDigit(peek())) {
+                position++;
+            }
+            String text = expression.substring(beginIndex, position);
+            if (isIdentifierPart(peek()) || '.' == peek() || (text.length() > 1 && '0' == text.charAt(0))) {
+                return null;
+            }
+            try {
+                long result = Long.parseLong(text);
+                return result <= Integer.MAX_VALUE ? new ConstantNode((int) result) : new ConstantNode(result);
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private Node parseIdentifier() {
+            int beginIndex = position;
+            while (isIdentifierPart(peek())) {
+                position++;
+            }
+            String identifier = expression.substring(beginIndex, position);
+            if ("Math".equals(identifier)) {
+                return consume(".abs(") ? parseAbs() : null;
+            }
+            variableNames.add(identifier);
+            if (consume(".hashCode()")) {
+                return new HashCodeNode();
+            }
+            return '.' == peek() || '(' == peek() ? null : new VariableNode();
+        }
+        
+        private Node parseAbs() {
+            Node operand = parseClosing(parseAdditive());
+            return null == operand ? null : new AbsNode(operand);
+        }
+        
+        private boolean isIdentifierPart(final char ch) {
+            return Character.isLetterOrDigit(ch) || '_' == ch;
+        }
+        
+        private boolean consume(final String text) {
+            if (!expression.startsWith(text, position)) {
+                return false;
+            }
+            position += text.length();
+            return true;
+        }
+        
+        private void skipWhitespace() {
+            while (Character.isWhitespace(peek())) {
+                position++;
+            }
+        }
+        
+        private char peek() {
+            return position < expression.length() ? expression.charAt(position) : '\0';
+        }
+    }
+}
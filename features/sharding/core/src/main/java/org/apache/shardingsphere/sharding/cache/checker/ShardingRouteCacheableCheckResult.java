@@ -32,4 +32,10 @@ public class ShardingRouteCacheableCheckResult {
     private final boolean probablyCacheable;
     
     private final List<Integer> shardingConditionParameterMarkerIndexes;
+    
+    private final boolean containsMultipleValuesCondition;
+    
+    public ShardingRouteCacheableCheckResult(final boolean probablyCacheable, final List<Integer> shardingConditionParameterMarkerIndexes) {
+        this(probablyCacheable, shardingConditionParameterMarkerIndexes, false);
+    }
 }
@@ -175,32 +175,47 @@ public final class ShardingRouteCacheableChecker {
     
     private static ShardingRouteCacheableCheckResult checkShardingConditionsCacheable(final List<ShardingCondition> shardingConditions) {
         Set<Integer> result = new TreeSet<>();
+        boolean containsMultipleValuesCondition = false;
         for (ShardingCondition each : shardingConditions) {
             for (ShardingConditionValue conditionValue : each.getValues()) {
                 if (!isConditionTypeCacheable(conditionValue)) {
                     return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
                 }
                 result.addAll(conditionValue.getParameterMarkerIndexes());
+                containsMultipleValuesCondition = containsMultipleValuesCondition || isMultipleValuesCondition(conditionValue);
             }
         }
-        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result));
+        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result), containsMultipleValuesCondition);
     }
     
     private static boolean isConditionTypeCacheable(final ShardingConditionValue conditionValue) {
         if (conditionValue instanceof ListShardingConditionValue<?>) {
-            for (Object eachValue : ((ListShardingConditionValue<?>) conditionValue).getValues()) {
-                if (!(eachValue instanceof Number)) {
-                    return false;
-                }
-            }
+            Collection<?> values = ((ListShardingConditionValue<?>) conditionValue).getValues();
+            return isAllParameterized(conditionValue, values.size()) || values.stream().allMatch(Number.class::isInstance);
         }
         if (conditionValue instanceof RangeShardingConditionValue<?>) {
             Range<?> range = ((RangeShardingConditionValue<?>) conditionValue).getValueRange();
-            return range.lowerEndpoint() instanceof Number && range.upperEndpoint() instanceof Number;
+            Collection<Object> endpoints = new ArrayList<>(2);
+            if (range.hasLowerBound()) {
+                endpoints.add(range.lowerEndpoint());
+            }
+            if (range.hasUpperBound()) {
+                endpoints.add(range.upperEndpoint());
+            }
+            return isAllParameterized(conditionValue, endpoints.size()) || endpoints.stream().allMatch(Number.class::isInstance);
         }
         return true;
     }
     
+    private static boolean isMultipleValuesCondition(final ShardingConditionValue conditionValue) {
+        return conditionValue instanceof RangeShardingConditionValue<?>
+                || conditionValue instanceof ListShardingConditionValue<?> && ((ListShardingConditionValue<?>) conditionValue).getValues().size() > 1;
+    }
+    
+    private static boolean isAllParameterized(final ShardingConditionValue conditionValue, final int valueCount) {
+        return valueCount > 0 && conditionValue.getParameterMarkerIndexes().size() == valueCount;
+    }
+    
     /**
      * Check if query is cacheable.
      *
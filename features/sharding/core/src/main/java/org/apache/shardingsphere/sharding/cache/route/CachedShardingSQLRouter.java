@@ -69,7 +69,7 @@ public final class CachedShardingSQLRouter {
         Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), tableNames, props));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
+        if (!cachedResult.isPresent() && (hitOneShardOnly(result) || cacheableCheckResult.isContainsMultipleValuesCondition() && isRoutedToTables(result))) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
@@ -80,6 +80,10 @@ public final class CachedShardingSQLRouter {
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
     }
     
+    private boolean isRoutedToTables(final RouteContext routeContext) {
+        return !routeContext.getRouteUnits().isEmpty() && routeContext.getRouteUnits().stream().noneMatch(each -> each.getTableMappers().isEmpty());
+    }
+    
     @FunctionalInterface
     public interface OriginSQLRouter {
         
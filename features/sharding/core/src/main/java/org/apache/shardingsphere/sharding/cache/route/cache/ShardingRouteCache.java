@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Cache for sharding route.
@@ -35,10 +38,13 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
+        if (cacheOptions.getExpireAfterAccessMillis() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMillis(), TimeUnit.MILLISECONDS);
+        }
         return result.build();
     }
     
@@ -61,4 +67,30 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Invalidate cached route results which are routed to the logic table.
+     *
+     * @param logicTableName logic table name
+     */
+    public void invalidate(final String logicTableName) {
+        cache.asMap().values().removeIf(each -> each.isRoutedTo(logicTableName));
+    }
+    
+    /**
+     * Invalidate all cached route results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics
+     */
+    public CacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
 }
@@ -54,6 +54,16 @@ public final class ShardingRouteCacheValue {
         return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
     }
     
+    /**
+     * Judge whether cached route context is routed to the logic table.
+     *
+     * @param logicTableName logic table name
+     * @return is routed to the logic table or not
+     */
+    public boolean isRoutedTo(final String logicTableName) {
+        return cacheable && cachedRouteContext.getRouteUnits().stream().flatMap(each -> each.getTableMappers().stream()).anyMatch(each -> each.getLogicName().equalsIgnoreCase(logicTableName));
+    }
+    
     private RouteContext deepCopyRouteContext() {
         RouteContext result = new RouteContext();
         result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
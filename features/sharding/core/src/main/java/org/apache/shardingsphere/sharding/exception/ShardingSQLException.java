@@ -32,4 +32,8 @@ public abstract class ShardingSQLException extends FeatureSQLException {
     protected ShardingSQLException(final SQLState sqlState, final int errorCode, final String reason, final Object... messageArgs) {
         super(sqlState, FEATURE_CODE, errorCode, reason, messageArgs);
     }
+    
+    protected ShardingSQLException(final SQLState sqlState, final int errorCode, final Exception cause, final String reason, final Object... messageArgs) {
+        super(sqlState, FEATURE_CODE, errorCode, cause, reason, messageArgs);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
@@ -29,17 +30,19 @@ import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResu
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
-import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationValueReader;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -49,73 +52,171 @@ import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>When memory budget is exceeded, rows of new groups are hash partitioned to local temporary files and aggregated partition by partition.
+ * A partition exceeding memory budget again is partitioned recursively up to {@code MAX_SPILL_DEPTH} levels, deeper partitions are aggregated in memory.
+ * Each aggregated partition is written back as a sorted run, and the merged result streams rows from all sorted runs in order.</p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
+    private static final int SPILLED_PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private static final long ROW_OVERHEAD_BYTES = 64L;
+    
+    private static final long AGGREGATION_UNIT_OVERHEAD_BYTES = 64L;
+    
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final long memoryBudget) throws SQLException {
+        super(merge(queryResults, selectStatementContext, schema, memoryBudget));
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        try (GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(SPILLED_PARTITION_COUNT)) {
+            GroupByAggregationBuffer buffer = aggregate(queryResults, selectStatementContext, spilledPartitions, 0L);
+            List<MemoryQueryResultRow> rows = getAggregatedRows(selectStatementContext, buffer);
+            return getMemoryResultSetRows(selectStatementContext, rows, getValueCaseSensitive(queryResults, selectStatementContext, schema));
+        }
+    }
+    
+    private static Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                        final ShardingSphereSchema schema, final long memoryBudget) throws SQLException {
+        List<Boolean> valueCaseSensitive = getValueCaseSensitive(queryResults, selectStatementContext, schema);
+        try (GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(SPILLED_PARTITION_COUNT)) {
+            GroupByAggregationBuffer buffer = aggregate(queryResults, selectStatementContext, spilledPartitions, memoryBudget);
+            if (0L == spilledPartitions.getSpilledRowCount()) {
+                return getMemoryResultSetRows(selectStatementContext, getAggregatedRows(selectStatementContext, buffer), valueCaseSensitive).iterator();
+            }
+            int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+            try (GroupBySortedRuns sortedRuns = new GroupBySortedRuns(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), columnCount)) {
+                sortedRuns.add(getAggregatedRows(selectStatementContext, buffer));
+                for (int i = 0; i < spilledPartitions.getPartitionCount(); i++) {
+                    mergeSpilledPartition(selectStatementContext, spilledPartitions, i, buffer.integralAggregations, memoryBudget, sortedRuns);
+                }
+                return sortedRuns.iterator();
+            }
+        }
+    }
+    
+    private static GroupByAggregationBuffer aggregate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                      final GroupBySpilledPartitions spilledPartitions, final long memoryBudget) throws SQLException {
+        GroupByAggregationBuffer result = new GroupByAggregationBuffer(
+                AggregationUnitFactory.getIntegralAggregations(selectStatementContext.getProjectionsContext().getAggregationProjections(), queryResults));
         for (QueryResult each : queryResults) {
+            int columnCount = memoryBudget > 0L ? each.getMetaData().getColumnCount() : 0;
+            AggregationValueReader valueReader = columnIndex -> each.getValue(columnIndex, Object.class);
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                if (memoryBudget > 0L && result.estimatedBytes > memoryBudget && !result.dataMap.containsKey(groupByValue)) {
+                    spilledPartitions.spill(spilledPartitions.getPartition(groupByValue.hashCode()), loadRow(each, columnCount));
+                    continue;
+                }
+                initForFirstGroupByValue(selectStatementContext, () -> new MemoryQueryResultRow(each), columnCount, groupByValue, result);
+                aggregate(selectStatementContext, valueReader, groupByValue, result, memoryBudget > 0L);
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return result;
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private static Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(),
-                        input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, input.getSeparator().orElse(null)))));
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+    private static void mergeSpilledPartition(final SelectStatementContext selectStatementContext, final GroupBySpilledPartitions spilledPartitions, final int partition,
+                                              final Map<AggregationProjection, Boolean> integralAggregations, final long memoryBudget, final GroupBySortedRuns sortedRuns) throws SQLException {
+        if (!spilledPartitions.hasRows(partition)) {
+            return;
+        }
+        GroupByAggregationBuffer buffer = new GroupByAggregationBuffer(integralAggregations);
+        boolean repartitionable = spilledPartitions.getDepth() < MAX_SPILL_DEPTH;
+        try (GroupBySpilledPartitions subPartitions = spilledPartitions.createSubPartitions()) {
+            spilledPartitions.read(partition, each -> {
+                MemoryQueryResultRow row = new MemoryQueryResultRow(each);
+                GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+                if (repartitionable && buffer.estimatedBytes > memoryBudget && !buffer.dataMap.containsKey(groupByValue)) {
+                    subPartitions.spill(subPartitions.getPartition(groupByValue.hashCode()), each);
+                    return;
                 }
+                initForFirstGroupByValue(selectStatementContext, () -> row, each.length, groupByValue, buffer);
+                aggregate(selectStatementContext, row::getCell, groupByValue, buffer, true);
+            });
+            sortedRuns.add(getAggregatedRows(selectStatementContext, buffer));
+            for (int i = 0; i < subPartitions.getPartitionCount(); i++) {
+                mergeSpilledPartition(selectStatementContext, subPartitions, i, integralAggregations, memoryBudget, sortedRuns);
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
         }
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
-        return (Comparable<?>) result;
+    private static void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final MemoryQueryResultRowLoader rowLoader, final int columnCount,
+                                                 final GroupByValue groupByValue, final GroupByAggregationBuffer buffer) throws SQLException {
+        if (buffer.dataMap.containsKey(groupByValue)) {
+            return;
+        }
+        MemoryQueryResultRow row = rowLoader.load();
+        buffer.dataMap.put(groupByValue, row);
+        Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        buffer.aggregationMap.put(groupByValue, aggregationProjections.stream()
+                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input, buffer.integralAggregations.get(input)))));
+        buffer.estimatedBytes += ROW_OVERHEAD_BYTES + AGGREGATION_UNIT_OVERHEAD_BYTES * aggregationProjections.size();
+        for (int i = 1; i <= columnCount; i++) {
+            buffer.estimatedBytes += estimateSize(row.getCell(i));
+        }
+    }
+    
+    private static void aggregate(final SelectStatementContext selectStatementContext, final AggregationValueReader valueReader,
+                                  final GroupByValue groupByValue, final GroupByAggregationBuffer buffer, final boolean estimateDistinctValues) throws SQLException {
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = buffer.aggregationMap.get(groupByValue);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            aggregationUnits.get(each).merge(each, valueReader);
+            if (estimateDistinctValues && each instanceof AggregationDistinctProjection) {
+                buffer.estimatedBytes += estimateSize(valueReader.read(each.getIndex()));
+            }
+        }
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+    private static long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        return 32L;
+    }
+    
+    private static List<MemoryQueryResultRow> getAggregatedRows(final SelectStatementContext selectStatementContext, final GroupByAggregationBuffer buffer) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : buffer.dataMap.entrySet()) {
             for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+                entry.getValue().setCell(each.getIndex(), buffer.aggregationMap.get(entry.getKey()).get(each).getResult());
             }
         }
+        List<MemoryQueryResultRow> result = new ArrayList<>(buffer.dataMap.values());
+        buffer.dataMap.clear();
+        buffer.aggregationMap.clear();
+        return result;
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private static List<Boolean> getValueCaseSensitive(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                       final ShardingSphereSchema schema) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QueryResult queryResult = queryResults.get(0);
         int columnCount = queryResult.getMetaData().getColumnCount();
         List<Boolean> result = new ArrayList<>(columnCount + 1);
         result.add(false);
@@ -125,7 +226,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
@@ -139,9 +240,9 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+    private static List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
+                                                                     final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
             boolean hasAggregations = !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
             if (hasGroupBy || !hasAggregations) {
@@ -150,12 +251,11 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
             Object[] data = generateReturnData(selectStatementContext);
             return Collections.singletonList(new MemoryQueryResultRow(data));
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        rows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return rows;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
@@ -165,4 +265,21 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    private static final class GroupByAggregationBuffer {
+        
+        private final Map<AggregationProjection, Boolean> integralAggregations;
+        
+        private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        
+        private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        
+        private long estimatedBytes;
+    }
+    
+    private interface MemoryQueryResultRowLoader {
+        
+        MemoryQueryResultRow load() throws SQLException;
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Group by sorted runs.
+ * 
+ * <p>Aggregated rows are written to local temporary files as sorted runs, and merged back in order when iterating.
+ * Run files are unlinked once opened, so their space is reclaimed when the readers are released even if the merged result is not fully iterated.</p>
+ */
+public final class GroupBySortedRuns implements AutoCloseable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int columnCount;
+    
+    private final List<File> files = new ArrayList<>();
+    
+    private final List<Long> rowCounts = new ArrayList<>();
+    
+    public GroupBySortedRuns(final Comparator<MemoryQueryResultRow> comparator, final int columnCount) {
+        this.comparator = comparator;
+        this.columnCount = columnCount;
+    }
+    
+    /**
+     * Add sorted run.
+     *
+     * @param rows rows to be sorted and written
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void add(final List<MemoryQueryResultRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(comparator);
+        try {
+            File file = Files.createTempFile("shardingsphere-group-by-", ".run").toFile();
+            files.add(file);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+                for (MemoryQueryResultRow each : rows) {
+                    GroupBySpilledRowCodec.write(output, toArray(each));
+                }
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        rowCounts.add((long) rows.size());
+        rows.clear();
+    }
+    
+    private Object[] toArray(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Get iterator of rows merged from all sorted runs.
+     *
+     * @return iterator of merged rows
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public Iterator<MemoryQueryResultRow> iterator() {
+        PriorityQueue<SortedRunReader> readers = new PriorityQueue<>(Math.max(files.size(), 1), (o1, o2) -> comparator.compare(o1.current, o2.current));
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                SortedRunReader reader = new SortedRunReader(files.get(i), rowCounts.get(i));
+                if (reader.advance()) {
+                    readers.add(reader);
+                }
+            }
+        } catch (final IOException ex) {
+            readers.forEach(SortedRunReader::close);
+            throw new GroupByMergeSpillException(ex);
+        } finally {
+            close();
+        }
+        return new SortedRunsIterator(readers);
+    }
+    
+    @Override
+    public void close() {
+        for (File each : files) {
+            each.delete();
+        }
+        files.clear();
+        rowCounts.clear();
+    }
+    
+    private static final class SortedRunReader {
+        
+        private final DataInputStream input;
+        
+        private long remainingRowCount;
+        
+        private MemoryQueryResultRow current;
+        
+        private SortedRunReader(final File file, final long rowCount) throws IOException {
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            remainingRowCount = rowCount;
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+        
+        private boolean advance() throws IOException {
+            if (0L == remainingRowCount) {
+                close();
+                return false;
+            }
+            current = new MemoryQueryResultRow(GroupBySpilledRowCodec.read(input));
+            remainingRowCount--;
+            return true;
+        }
+        
+        private void close() {
+            try {
+                input.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
+    private static final class SortedRunsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SortedRunReader> readers;
+        
+        private SortedRunsIterator(final PriorityQueue<SortedRunReader> readers) {
+            this.readers = readers;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !readers.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedRunReader reader = readers.poll();
+            if (null == reader) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = reader.current;
+            try {
+                if (reader.advance()) {
+                    readers.add(reader);
+                }
+            } catch (final IOException ex) {
+                reader.close();
+                readers.forEach(SortedRunReader::close);
+                readers.clear();
+                throw new GroupByMergeSpillException(ex);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.SQLException;
+
+/**
+ * Group by spilled partitions.
+ * 
+ * <p>Rows are hash partitioned to local temporary files with {@link GroupBySpilledRowCodec}, and read back partition by partition.
+ * A partition which still exceeds memory budget can be partitioned again with sub partitions, which use other bits of hash code
+ * and count spilled rows and bytes on root partitions.</p>
+ */
+public final class GroupBySpilledPartitions implements AutoCloseable {
+    
+    private final GroupBySpilledPartitions parent;
+    
+    @Getter
+    private final int depth;
+    
+    private final File[] files;
+    
+    private final DataOutputStream[] outputs;
+    
+    private final long[] rowCounts;
+    
+    @Getter
+    private long spilledRowCount;
+    
+    @Getter
+    private long spilledBytes;
+    
+    public GroupBySpilledPartitions(final int partitionCount) {
+        this(partitionCount, 0, null);
+    }
+    
+    private GroupBySpilledPartitions(final int partitionCount, final int depth, final GroupBySpilledPartitions parent) {
+        this.parent = parent;
+        this.depth = depth;
+        files = new File[partitionCount];
+        outputs = new DataOutputStream[partitionCount];
+        rowCounts = new long[partitionCount];
+    }
+    
+    /**
+     * Get partition count.
+     *
+     * @return partition count
+     */
+    public int getPartitionCount() {
+        return files.length;
+    }
+    
+    /**
+     * Judge whether partition has rows to be read.
+     *
+     * @param partition partition index
+     * @return has rows to be read or not
+     */
+    public boolean hasRows(final int partition) {
+        return null != files[partition];
+    }
+    
+    /**
+     * Create sub partitions to partition rows of one partition again.
+     *
+     * @return created sub partitions
+     */
+    public GroupBySpilledPartitions createSubPartitions() {
+        return new GroupBySpilledPartitions(files.length, depth + 1, this);
+    }
+    
+    /**
+     * Get partition index.
+     *
+     * @param hashCode hash code of group by value
+     * @return partition index
+     */
+    public int getPartition(final int hashCode) {
+        return Math.floorMod(Integer.rotateRight(hashCode ^ (hashCode >>> 16), depth * 4), files.length);
+    }
+    
+    /**
+     * Spill row to partition.
+     *
+     * @param partition partition index
+     * @param row row data
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void spill(final int partition, final Object[] row) {
+        try {
+            if (null == outputs[partition]) {
+                files[partition] = Files.createTempFile("shardingsphere-group-by-", ".spill").toFile();
+                outputs[partition] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(files[partition].toPath())));
+            }
+            GroupBySpilledRowCodec.write(outputs[partition], row);
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        rowCounts[partition]++;
+        addSpilled(1L, 0L);
+    }
+    
+    private void addSpilled(final long rowCount, final long bytes) {
+        if (null == parent) {
+            spilledRowCount += rowCount;
+            spilledBytes += bytes;
+        } else {
+            parent.addSpilled(rowCount, bytes);
+        }
+    }
+    
+    /**
+     * Read rows of partition.
+     *
+     * @param partition partition index
+     * @param consumer spilled row consumer
+     * @throws SQLException SQL exception
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void read(final int partition, final SpilledRowConsumer consumer) throws SQLException {
+        if (null == files[partition]) {
+            return;
+        }
+        try {
+            outputs[partition].close();
+            outputs[partition] = null;
+            addSpilled(0L, files[partition].length());
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(files[partition].toPath())))) {
+                for (long i = 0L; i < rowCounts[partition]; i++) {
+                    consumer.accept(GroupBySpilledRowCodec.read(input));
+                }
+            }
+            Files.delete(files[partition].toPath());
+            files[partition] = null;
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        for (int i = 0; i < files.length; i++) {
+            if (null != outputs[i]) {
+                try {
+                    outputs[i].close();
+                } catch (final IOException ignored) {
+                }
+            }
+            if (null != files[i]) {
+                files[i].delete();
+            }
+        }
+    }
+    
+    /**
+     * Spilled row consumer.
+     */
+    public interface SpilledRowConsumer {
+        
+        /**
+         * Accept spilled row.
+         *
+         * @param row row data
+         * @throws SQLException SQL exception
+         */
+        void accept(Object[] row) throws SQLException;
+    }
+}
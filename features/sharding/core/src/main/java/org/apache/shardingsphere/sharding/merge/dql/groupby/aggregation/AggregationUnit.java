@@ -17,6 +17,12 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,6 +37,39 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge aggregation values of current row.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param valueReader aggregation value reader
+     * @throws SQLException SQL exception
+     */
+    default void merge(final AggregationProjection aggregationProjection, final AggregationValueReader valueReader) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            values.add(readComparableValue(aggregationProjection.getIndex(), valueReader));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                values.add(readComparableValue(each.getIndex(), valueReader));
+            }
+        }
+        merge(values);
+    }
+    
+    /**
+     * Read comparable aggregation value.
+     *
+     * @param columnIndex column index
+     * @param valueReader aggregation value reader
+     * @return comparable aggregation value
+     * @throws SQLException SQL exception
+     */
+    static Comparable<?> readComparableValue(final int columnIndex, final AggregationValueReader valueReader) throws SQLException {
+        Object result = valueReader.read(columnIndex);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
     /**
      * Get aggregation result.
      *
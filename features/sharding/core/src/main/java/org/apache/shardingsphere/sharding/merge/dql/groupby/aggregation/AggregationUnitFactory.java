@@ -19,9 +19,20 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Aggregation unit factory.
  */
@@ -38,17 +49,42 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator) {
+        return create(type, isDistinct, separator, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param isIntegral whether aggregation values are integral
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationProjection aggregationProjection, final boolean isIntegral) {
+        return create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, aggregationProjection.getSeparator().orElse(null), isIntegral);
+    }
+    
+    private static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final boolean isIntegral) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctSumAggregationUnit();
+                }
+                return isIntegral ? new IntegralAccumulationAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctCountAggregationUnit();
+                }
+                return isIntegral ? new IntegralAccumulationAggregationUnit() : new AccumulationAggregationUnit();
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctAverageAggregationUnit();
+                }
+                return isIntegral ? new IntegralAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             case GROUP_CONCAT:
@@ -57,4 +93,49 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Get integral flags of aggregation projections.
+     *
+     * @param aggregationProjections aggregation projections
+     * @param queryResults query results
+     * @return integral flags of aggregation projections
+     * @throws SQLException SQL exception
+     */
+    public static Map<AggregationProjection, Boolean> getIntegralAggregations(final Collection<AggregationProjection> aggregationProjections,
+                                                                              final List<QueryResult> queryResults) throws SQLException {
+        Map<AggregationProjection, Boolean> result = new HashMap<>(aggregationProjections.size(), 1F);
+        QueryResultMetaData metaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        for (AggregationProjection each : aggregationProjections) {
+            result.put(each, isIntegral(each, metaData));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether aggregation values are integral.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param metaData query result meta data
+     * @return aggregation values are integral or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isIntegral(final AggregationProjection aggregationProjection, final QueryResultMetaData metaData) throws SQLException {
+        if (null == metaData) {
+            return false;
+        }
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return isIntegralColumnType(metaData.getColumnType(aggregationProjection.getIndex()));
+        }
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            if (!isIntegralColumnType(metaData.getColumnType(each.getIndex()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isIntegralColumnType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ * 
+ * <p>Values are accumulated into a primitive long, and promoted to {@link BigDecimal} only on overflow or non integral value.</p>
+ */
+@RequiredArgsConstructor
+public final class IntegralAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean accumulated;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            accumulate(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final AggregationProjection aggregationProjection, final AggregationValueReader valueReader) throws SQLException {
+        accumulate(valueReader.read(aggregationProjection.getIndex()));
+    }
+    
+    /**
+     * Accumulate value.
+     *
+     * @param value value to be accumulated
+     */
+    public void accumulate(final Object value) {
+        if (null == value) {
+            return;
+        }
+        accumulated = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long longValue = ((Number) value).longValue();
+            long sum = longResult + longValue;
+            if (((longResult ^ sum) & (longValue ^ sum)) >= 0L) {
+                longResult = sum;
+                return;
+            }
+            promote(BigDecimal.valueOf(longValue));
+            return;
+        }
+        promote(new BigDecimal(value.toString()));
+    }
+    
+    private void promote(final BigDecimal value) {
+        decimalResult = null == decimalResult ? BigDecimal.valueOf(longResult).add(value) : decimalResult.add(BigDecimal.valueOf(longResult)).add(value);
+        longResult = 0L;
+    }
+    
+    @Override
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult.add(BigDecimal.valueOf(longResult));
+    }
+}
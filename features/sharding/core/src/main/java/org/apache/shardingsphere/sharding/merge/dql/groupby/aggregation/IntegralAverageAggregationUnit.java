@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Average aggregation unit for integral values.
+ */
+@RequiredArgsConstructor
+public final class IntegralAverageAggregationUnit implements AggregationUnit {
+    
+    private static final int SCALE = 4;
+    
+    private final IntegralAccumulationAggregationUnit count = new IntegralAccumulationAggregationUnit();
+    
+    private final IntegralAccumulationAggregationUnit sum = new IntegralAccumulationAggregationUnit();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            accumulate(values.get(0), values.get(1));
+        }
+    }
+    
+    @Override
+    public void merge(final AggregationProjection aggregationProjection, final AggregationValueReader valueReader) throws SQLException {
+        List<AggregationProjection> derivedAggregationProjections = aggregationProjection.getDerivedAggregationProjections();
+        accumulate(valueReader.read(derivedAggregationProjections.get(0).getIndex()), valueReader.read(derivedAggregationProjections.get(1).getIndex()));
+    }
+    
+    private void accumulate(final Object countValue, final Object sumValue) {
+        if (null == countValue || null == sumValue) {
+            return;
+        }
+        count.accumulate(countValue);
+        sum.accumulate(sumValue);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || BigDecimal.ZERO.compareTo(countResult) == 0) {
+            return countResult;
+        }
+        return sum.getResult().divide(countResult, SCALE, RoundingMode.HALF_UP);
+    }
+}
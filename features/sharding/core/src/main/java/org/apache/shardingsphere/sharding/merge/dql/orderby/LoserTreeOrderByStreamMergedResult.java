@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ * 
+ * <p>Each output row costs one comparison per tree level, which is cheaper than priority queue when merging lots of query results.</p>
+ */
+public final class LoserTreeOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private final OrderBySortKey[] sortKeys;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private boolean isFirstNext;
+    
+    public LoserTreeOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<OrderByItem> orderByItems = new ArrayList<>(selectStatementContext.getOrderByContext().getItems());
+        List<Boolean> caseSensitives = OrderByValue.getOrderValuesCaseSensitive(queryResults.get(0), orderByItems, selectStatementContext, schema);
+        int size = queryResults.size();
+        sortKeys = new OrderBySortKey[size];
+        exhausted = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            sortKeys[i] = new OrderBySortKey(queryResults.get(i), orderByItems, caseSensitives, selectStatementContext);
+            exhausted[i] = !sortKeys[i].next();
+        }
+        tree = new int[size];
+        Arrays.fill(tree, size);
+        for (int i = size - 1; i >= 0; i--) {
+            adjust(i);
+        }
+        setCurrentQueryResult(exhausted[tree[0]] ? queryResults.get(0) : sortKeys[tree[0]].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + tree.length) / 2; parent > 0; parent /= 2) {
+            if (isBefore(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int thisIndex, final int otherIndex) {
+        if (sortKeys.length == thisIndex) {
+            return true;
+        }
+        if (sortKeys.length == otherIndex) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return !exhausted[thisIndex];
+        }
+        if (exhausted[thisIndex]) {
+            return false;
+        }
+        int result = sortKeys[thisIndex].compareTo(sortKeys[otherIndex]);
+        return result < 0 || 0 == result && thisIndex < otherIndex;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (exhausted[winner]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        exhausted[winner] = !sortKeys[winner].next();
+        adjust(winner);
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(sortKeys[tree[0]].getQueryResult());
+        return true;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Order by sort key.
+ * 
+ * <p>Sort key values of current row are cached in reusable arrays, numeric and temporal values are compared as primitives.</p>
+ */
+public final class OrderBySortKey implements Comparable<OrderBySortKey> {
+    
+    @Getter
+    private final QueryResult queryResult;
+    
+    private final int[] columnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final boolean[] caseSensitives;
+    
+    private final SortKeyType[] types;
+    
+    private final long[] longValues;
+    
+    private final double[] doubleValues;
+    
+    private final int[] nanos;
+    
+    private final Comparable<?>[] objectValues;
+    
+    public OrderBySortKey(final QueryResult queryResult, final List<OrderByItem> orderByItems, final List<Boolean> caseSensitives, final SelectStatementContext selectStatementContext) {
+        this.queryResult = queryResult;
+        int size = orderByItems.size();
+        columnIndexes = new int[size];
+        orderDirections = new OrderDirection[size];
+        nullsOrderTypes = new NullsOrderType[size];
+        this.caseSensitives = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            OrderByItem orderByItem = orderByItems.get(i);
+            columnIndexes[i] = orderByItem.getIndex();
+            orderDirections[i] = orderByItem.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = orderByItem.getSegment().getNullsOrderType(selectStatementContext.getSqlStatement().getDatabaseType());
+            this.caseSensitives[i] = caseSensitives.get(i);
+        }
+        types = new SortKeyType[size];
+        longValues = new long[size];
+        doubleValues = new double[size];
+        nanos = new int[size];
+        objectValues = new Comparable<?>[size];
+    }
+    
+    /**
+     * Iterate next data.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (!queryResult.next()) {
+            return false;
+        }
+        for (int i = 0; i < columnIndexes.length; i++) {
+            loadValue(i, queryResult.getValue(columnIndexes[i], Object.class));
+        }
+        return true;
+    }
+    
+    private void loadValue(final int index, final Object value) {
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
+        objectValues[index] = (Comparable<?>) value;
+        if (null == value) {
+            types[index] = SortKeyType.NULL;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            types[index] = SortKeyType.INTEGRAL;
+            longValues[index] = ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            types[index] = SortKeyType.FLOATING;
+            doubleValues[index] = ((Number) value).doubleValue();
+        } else if (value instanceof Timestamp) {
+            types[index] = SortKeyType.TIMESTAMP;
+            longValues[index] = ((Timestamp) value).getTime();
+            nanos[index] = ((Timestamp) value).getNanos();
+        } else if (value instanceof Date) {
+            types[index] = SortKeyType.DATE;
+            longValues[index] = ((Date) value).getTime();
+        } else {
+            types[index] = SortKeyType.OBJECT;
+        }
+    }
+    
+    @Override
+    public int compareTo(final OrderBySortKey sortKey) {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int result = compareTo(sortKey, i);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private int compareTo(final OrderBySortKey sortKey, final int index) {
+        SortKeyType thisType = types[index];
+        SortKeyType otherType = sortKey.types[index];
+        if (SortKeyType.NULL == thisType || SortKeyType.NULL == otherType || SortKeyType.OBJECT == thisType || thisType != otherType) {
+            return CompareUtils.compareTo(objectValues[index], sortKey.objectValues[index], orderDirections[index], nullsOrderTypes[index], caseSensitives[index]);
+        }
+        int result = comparePrimitiveValues(thisType, sortKey, index);
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private int comparePrimitiveValues(final SortKeyType type, final OrderBySortKey sortKey, final int index) {
+        switch (type) {
+            case FLOATING:
+                return Double.compare(doubleValues[index], sortKey.doubleValues[index]);
+            case TIMESTAMP:
+                int result = Long.compare(longValues[index], sortKey.longValues[index]);
+                return 0 == result ? Integer.compare(nanos[index], sortKey.nanos[index]) : result;
+            default:
+                return Long.compare(longValues[index], sortKey.longValues[index]);
+        }
+    }
+    
+    private enum SortKeyType {
+        
+        NULL, INTEGRAL, FLOATING, DATE, TIMESTAMP, OBJECT
+    }
+}
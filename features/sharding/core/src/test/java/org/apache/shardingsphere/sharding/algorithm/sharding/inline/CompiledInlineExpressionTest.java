@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id % 4}", "t_order_${ order_id % 4 }", "ds_${order_id % 2}.t_order_${order_id % 4}", "t_order_${Math.abs(order_id.hashCode()) % 8}",
+                "t_order_${order_id.hashCode() % 8}", "t_order_${(order_id + 3) * 2 % 16 - 1}", "t_order_${order_id}", "t_order_${order_id * 3000000000 % 7}", "t_order_1")) {
+            for (Comparable<?> value : Arrays.<Comparable<?>>asList(0, 7, -9, Integer.MAX_VALUE, Integer.MIN_VALUE, 787694822390497280L, -5L, (short) 3)) {
+                assertEvaluateSameAsGroovy(each, value);
+            }
+        }
+        assertEvaluateSameAsGroovy("t_order_${Math.abs(order_id.hashCode()) % 8}", "foo_order");
+        assertEvaluateSameAsGroovy("t_order_${order_id}", "foo_order");
+    }
+    
+    private void assertEvaluateSameAsGroovy(final String expression, final Comparable<?> value) {
+        String expected = InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(Collections.singletonMap("order_id", value));
+        assertThat(CompiledInlineExpression.compile(expression).flatMap(compiled -> compiled.evaluate("order_id", value)).orElse(null), is(expected));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        for (String each : Arrays.asList("t_order_${(order_id % 4).abs()}", "t_order_${order_id / 2}", "t_order_${-order_id % 4}", "t_order_${order_id % 010}",
+                "t_order_${order_id.toString()}", "t_order_${order_id % 4L}", "t_order_${order_id % 99999999999999999999}", "t_order_\"${order_id}\"", "t_order_${order_id % 4")) {
+            assertFalse(CompiledInlineExpression.compile(each).isPresent());
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(compiledExpression.evaluate("order_id", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(compiledExpression.evaluate("order_id", "foo_order").isPresent());
+        assertFalse(compiledExpression.evaluate("user_id", 1).isPresent());
+        assertTrue(compiledExpression.evaluate("order_id", 5).isPresent());
+    }
+}
@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +41,38 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertInvalidate() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 8, 8));
+        ShardingRouteCacheKey fooKey = new ShardingRouteCacheKey("SELECT name FROM foo_tbl WHERE id = ?", Collections.singletonList(1));
+        ShardingRouteCacheKey barKey = new ShardingRouteCacheKey("SELECT name FROM bar_tbl WHERE id = ?", Collections.singletonList(1));
+        cache.put(fooKey, new ShardingRouteCacheValue(createRouteContext("foo_tbl")));
+        cache.put(barKey, new ShardingRouteCacheValue(createRouteContext("bar_tbl")));
+        cache.invalidate("FOO_TBL");
+        assertFalse(cache.get(fooKey).isPresent());
+        assertTrue(cache.get(barKey).isPresent());
+        cache.invalidateAll();
+        assertFalse(cache.get(barKey).isPresent());
+    }
+    
+    @Test
+    void assertGetStatistics() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 8, 8, 60000L));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("SELECT name FROM foo_tbl WHERE id = ?", Collections.singletonList(1));
+        cache.get(key);
+        cache.put(key, new ShardingRouteCacheValue(createRouteContext("foo_tbl")));
+        cache.get(key);
+        CacheStatistics actual = cache.getStatistics();
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(1L));
+        assertThat(actual.getEvictionCount(), is(0L));
+        assertThat(actual.getSize(), is(1L));
+    }
+    
+    private RouteContext createRouteContext(final String logicTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper(logicTableName, logicTableName + "_0"))));
+        return result;
+    }
 }
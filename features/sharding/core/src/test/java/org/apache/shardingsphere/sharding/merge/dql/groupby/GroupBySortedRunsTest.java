@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GroupBySortedRunsTest {
+    
+    @Test
+    void assertIterator() {
+        Iterator<MemoryQueryResultRow> actual;
+        try (GroupBySortedRuns sortedRuns = new GroupBySortedRuns(Comparator.comparing(each -> (Integer) each.getCell(1)), 2)) {
+            sortedRuns.add(createRows(5, 1, 3));
+            sortedRuns.add(createRows());
+            sortedRuns.add(createRows(4, 2));
+            actual = sortedRuns.iterator();
+        }
+        List<Object> actualValues = new LinkedList<>();
+        while (actual.hasNext()) {
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(2), is("v" + row.getCell(1)));
+            actualValues.add(row.getCell(1));
+        }
+        assertThat(actualValues, is(Arrays.<Object>asList(1, 2, 3, 4, 5)));
+        assertFalse(actual.hasNext());
+    }
+    
+    private List<MemoryQueryResultRow> createRows(final int... values) {
+        List<MemoryQueryResultRow> result = new LinkedList<>();
+        for (int each : values) {
+            result.add(new MemoryQueryResultRow(new Object[]{each, "v" + each}));
+        }
+        return result;
+    }
+}
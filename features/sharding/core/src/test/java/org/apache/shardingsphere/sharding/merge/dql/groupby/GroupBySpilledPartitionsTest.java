@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupBySpilledPartitionsTest {
+    
+    @Test
+    void assertSpillAndRead() throws SQLException {
+        List<Object[]> actual = new LinkedList<>();
+        try (GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(4)) {
+            spilledPartitions.spill(1, new Object[]{1, "foo"});
+            spilledPartitions.spill(1, new Object[]{2, null});
+            spilledPartitions.spill(3, new Object[]{3, "bar"});
+            spilledPartitions.read(0, actual::add);
+            assertTrue(actual.isEmpty());
+            spilledPartitions.read(1, actual::add);
+            assertThat(actual.size(), is(2));
+            assertArrayEquals(new Object[]{1, "foo"}, actual.get(0));
+            assertArrayEquals(new Object[]{2, null}, actual.get(1));
+            assertThat(spilledPartitions.getSpilledRowCount(), is(3L));
+            assertTrue(spilledPartitions.getSpilledBytes() > 0L);
+        }
+    }
+    
+    @Test
+    void assertGetPartition() {
+        GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(16);
+        assertThat(spilledPartitions.getPartitionCount(), is(16));
+        assertTrue(spilledPartitions.getPartition(-1) >= 0);
+        assertThat(spilledPartitions.getPartition(17), is(spilledPartitions.getPartition(17)));
+    }
+    
+    @Test
+    void assertCreateSubPartitions() throws SQLException {
+        try (
+                GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(16);
+                GroupBySpilledPartitions subPartitions = spilledPartitions.createSubPartitions()) {
+            assertThat(subPartitions.getDepth(), is(1));
+            assertThat(spilledPartitions.getPartition(0x10), is(0));
+            assertThat(subPartitions.getPartition(0x10), is(1));
+            subPartitions.spill(1, new Object[]{1, "foo"});
+            assertTrue(subPartitions.hasRows(1));
+            assertFalse(subPartitions.hasRows(0));
+            List<Object[]> actual = new LinkedList<>();
+            subPartitions.read(1, actual::add);
+            assertThat(actual.size(), is(1));
+            assertFalse(subPartitions.hasRows(1));
+            assertThat(subPartitions.getSpilledRowCount(), is(0L));
+            assertThat(spilledPartitions.getSpilledRowCount(), is(1L));
+            assertTrue(spilledPartitions.getSpilledBytes() > 0L);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class GroupBySpilledRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, "foo", 1, 2L, (short) 3, (byte) 4, true, 5.5D, 6.5F, new BigDecimal("-7.0100"), new BigInteger("12345678901234567890"), new byte[]{1, 2},
+                timestamp, new Date(1700000000000L), new Time(3600000L), LocalDate.of(2024, 1, 2), LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                UUID.fromString("00000000-0000-0000-0000-000000000001")};
+        assertArrayEquals(expected, writeAndRead(expected));
+    }
+    
+    @Test
+    void assertWriteAndReadNonSerializableValue() throws IOException {
+        Object[] actual = writeAndRead(new Object[]{new NonSerializableValue()});
+        assertThat(actual[0], is("non-serializable"));
+    }
+    
+    private Object[] writeAndRead(final Object[] row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            GroupBySpilledRowCodec.write(output, row);
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return GroupBySpilledRowCodec.read(input);
+        }
+    }
+    
+    private static final class NonSerializableValue {
+        
+        @Override
+        public String toString() {
+            return "non-serializable";
+        }
+    }
+}
@@ -17,11 +17,27 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AggregationUnitFactoryTest {
     
@@ -73,4 +89,69 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, null), isA(DistinctGroupConcatAggregationUnit.class));
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, " "), isA(DistinctGroupConcatAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateIntegralAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(mockAggregationProjection(AggregationType.SUM), true), isA(IntegralAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(mockAggregationProjection(AggregationType.COUNT), true), isA(IntegralAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(mockAggregationProjection(AggregationType.AVG), true), isA(IntegralAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(mockAggregationProjection(AggregationType.MAX), true), isA(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(mockAggregationProjection(AggregationType.SUM), false), isA(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateIntegralAggregationUnitWithDistinct() {
+        AggregationDistinctProjection aggregationProjection = mock(AggregationDistinctProjection.class);
+        when(aggregationProjection.getType()).thenReturn(AggregationType.SUM);
+        when(aggregationProjection.getSeparator()).thenReturn(Optional.empty());
+        assertThat(AggregationUnitFactory.create(aggregationProjection, true), isA(DistinctSumAggregationUnit.class));
+    }
+    
+    @Test
+    void assertIsIntegral() throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.getColumnType(2)).thenReturn(Types.INTEGER);
+        when(metaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        assertTrue(AggregationUnitFactory.isIntegral(mockAggregationProjection(1), metaData));
+        assertFalse(AggregationUnitFactory.isIntegral(mockAggregationProjection(3), metaData));
+        AggregationProjection bigintProjection = mockAggregationProjection(1);
+        AggregationProjection integerProjection = mockAggregationProjection(2);
+        AggregationProjection decimalProjection = mockAggregationProjection(3);
+        AggregationProjection avgProjection = mockAggregationProjection(AggregationType.AVG);
+        when(avgProjection.getDerivedAggregationProjections()).thenReturn(Arrays.asList(bigintProjection, integerProjection));
+        assertTrue(AggregationUnitFactory.isIntegral(avgProjection, metaData));
+        when(avgProjection.getDerivedAggregationProjections()).thenReturn(Arrays.asList(bigintProjection, decimalProjection));
+        assertFalse(AggregationUnitFactory.isIntegral(avgProjection, metaData));
+        assertFalse(AggregationUnitFactory.isIntegral(mockAggregationProjection(1), null));
+    }
+    
+    @Test
+    void assertGetIntegralAggregations() throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.getColumnType(2)).thenReturn(Types.DECIMAL);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getMetaData()).thenReturn(metaData);
+        AggregationProjection bigintProjection = mockAggregationProjection(1);
+        AggregationProjection decimalProjection = mockAggregationProjection(2);
+        Map<AggregationProjection, Boolean> actual = AggregationUnitFactory.getIntegralAggregations(Arrays.asList(bigintProjection, decimalProjection), Collections.singletonList(queryResult));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.get(bigintProjection));
+        assertFalse(actual.get(decimalProjection));
+        assertFalse(AggregationUnitFactory.getIntegralAggregations(Collections.singletonList(bigintProjection), Collections.emptyList()).get(bigintProjection));
+    }
+    
+    private AggregationProjection mockAggregationProjection(final AggregationType type) {
+        AggregationProjection result = mock(AggregationProjection.class);
+        when(result.getType()).thenReturn(type);
+        when(result.getSeparator()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private AggregationProjection mockAggregationProjection(final int index) {
+        AggregationProjection result = mock(AggregationProjection.class);
+        when(result.getIndex()).thenReturn(index);
+        return result;
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IntegralAccumulationAggregationUnitTest {
+    
+    @Test
+    void assertMergeWithoutValue() {
+        IntegralAccumulationAggregationUnit accumulationAggregationUnit = new IntegralAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(null);
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+    }
+    
+    @Test
+    void assertMergeIntegralValues() {
+        IntegralAccumulationAggregationUnit accumulationAggregationUnit = new IntegralAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(10));
+        accumulationAggregationUnit.merge(Collections.singletonList(5L));
+        accumulationAggregationUnit.merge(Collections.singletonList((short) -2));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("13")));
+    }
+    
+    @Test
+    void assertMergeWithOverflow() {
+        IntegralAccumulationAggregationUnit accumulationAggregationUnit = new IntegralAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(2L));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    void assertMergeNonIntegralValues() {
+        IntegralAccumulationAggregationUnit accumulationAggregationUnit = new IntegralAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("18446744073709551615")));
+        accumulationAggregationUnit.merge(Collections.singletonList(1.5D));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("18446744073709551617.5")));
+    }
+    
+    @Test
+    void assertMergeWithValueReader() throws SQLException {
+        AggregationProjection aggregationProjection = mock(AggregationProjection.class);
+        when(aggregationProjection.getIndex()).thenReturn(2);
+        IntegralAccumulationAggregationUnit accumulationAggregationUnit = new IntegralAccumulationAggregationUnit();
+        for (Object each : Arrays.asList(3L, null, 4)) {
+            accumulationAggregationUnit.merge(aggregationProjection, columnIndex -> 2 == columnIndex ? each : null);
+        }
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("7")));
+    }
+}
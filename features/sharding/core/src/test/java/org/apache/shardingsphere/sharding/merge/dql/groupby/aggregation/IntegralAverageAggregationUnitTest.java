@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IntegralAverageAggregationUnitTest {
+    
+    @Test
+    void assertAvgAggregation() {
+        IntegralAverageAggregationUnit avgAggregationUnit = new IntegralAverageAggregationUnit();
+        avgAggregationUnit.merge(null);
+        avgAggregationUnit.merge(Arrays.asList(null, null));
+        avgAggregationUnit.merge(Arrays.asList(1, null));
+        avgAggregationUnit.merge(Arrays.asList(10, 50));
+        avgAggregationUnit.merge(Arrays.asList(10L, 20L));
+        avgAggregationUnit.merge(Arrays.asList(5, 40));
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertDivideZero() {
+        IntegralAverageAggregationUnit avgAggregationUnit = new IntegralAverageAggregationUnit();
+        avgAggregationUnit.merge(Arrays.asList(0, 50));
+        avgAggregationUnit.merge(Arrays.asList(0, 20));
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
+    }
+    
+    @Test
+    void assertMergeWithValueReader() throws SQLException {
+        AggregationProjection countProjection = mock(AggregationProjection.class);
+        when(countProjection.getIndex()).thenReturn(2);
+        AggregationProjection sumProjection = mock(AggregationProjection.class);
+        when(sumProjection.getIndex()).thenReturn(3);
+        AggregationProjection avgProjection = mock(AggregationProjection.class);
+        when(avgProjection.getDerivedAggregationProjections()).thenReturn(Arrays.asList(countProjection, sumProjection));
+        IntegralAverageAggregationUnit avgAggregationUnit = new IntegralAverageAggregationUnit();
+        avgAggregationUnit.merge(avgProjection, columnIndex -> 2 == columnIndex ? 4L : 10L);
+        avgAggregationUnit.merge(avgProjection, columnIndex -> 2 == columnIndex ? 4L : 20L);
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("3.7500")));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderBySortKeyTest {
+    
+    @Test
+    void assertNextWithoutData() throws SQLException {
+        assertFalse(createSortKey(mock(QueryResult.class), OrderDirection.ASC).next());
+    }
+    
+    @Test
+    void assertCompareToForIntegralValues() throws SQLException {
+        assertThat(compare(1, 2L, OrderDirection.ASC), lessThan(0));
+        assertThat(compare(2L, (short) 1, OrderDirection.ASC), greaterThan(0));
+        assertThat(compare(1, 2L, OrderDirection.DESC), greaterThan(0));
+        assertThat(compare(2, 2L, OrderDirection.ASC), is(0));
+    }
+    
+    @Test
+    void assertCompareToForFloatingValues() throws SQLException {
+        assertThat(compare(1.5D, 2.5F, OrderDirection.ASC), lessThan(0));
+        assertThat(compare(1.5D, 2.5F, OrderDirection.DESC), greaterThan(0));
+    }
+    
+    @Test
+    void assertCompareToForTimestampValues() throws SQLException {
+        Timestamp thisValue = new Timestamp(1000L);
+        Timestamp otherValue = new Timestamp(1000L);
+        otherValue.setNanos(1);
+        assertThat(compare(thisValue, otherValue, OrderDirection.ASC), lessThan(0));
+        assertThat(compare(thisValue, new Timestamp(999L), OrderDirection.ASC), greaterThan(0));
+    }
+    
+    @Test
+    void assertCompareToForNullValues() throws SQLException {
+        assertThat(compare(null, 1L, OrderDirection.ASC), lessThan(0));
+        assertThat(compare(null, 1L, OrderDirection.DESC), lessThan(0));
+        assertThat(compare(null, null, OrderDirection.ASC), is(0));
+    }
+    
+    @Test
+    void assertCompareToForObjectValues() throws SQLException {
+        assertThat(compare("a", "b", OrderDirection.ASC), lessThan(0));
+        assertThat(compare("a", "b", OrderDirection.DESC), greaterThan(0));
+    }
+    
+    private int compare(final Object thisValue, final Object otherValue, final OrderDirection orderDirection) throws SQLException {
+        OrderBySortKey thisSortKey = createSortKey(mockQueryResult(thisValue), orderDirection);
+        OrderBySortKey otherSortKey = createSortKey(mockQueryResult(otherValue), orderDirection);
+        assertTrue(thisSortKey.next());
+        assertTrue(otherSortKey.next());
+        return thisSortKey.compareTo(otherSortKey);
+    }
+    
+    private QueryResult mockQueryResult(final Object value) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.next()).thenReturn(true);
+        when(result.getValue(1, Object.class)).thenReturn(value);
+        return result;
+    }
+    
+    private OrderBySortKey createSortKey(final QueryResult queryResult, final OrderDirection orderDirection) {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        return new OrderBySortKey(queryResult, Collections.singletonList(orderByItem), Collections.singletonList(true), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS));
+    }
+}
@@ -35,11 +35,23 @@ import java.util.Properties;
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(cipherMode, secretKeySpec);
+        return result;
     }
     
     @HighFrequencyInvocation
@@ -49,7 +61,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = encryptCipher.get().doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return encode(result);
     }
     
@@ -65,7 +77,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
+        byte[] result = decryptCipher.get().doFinal(decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
@@ -74,13 +86,6 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         return Base64.getDecoder().decode(value);
     }
     
-    @HighFrequencyInvocation
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "AES";
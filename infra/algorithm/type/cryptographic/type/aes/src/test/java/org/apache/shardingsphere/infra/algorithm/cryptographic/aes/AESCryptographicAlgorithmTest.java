@@ -25,6 +25,10 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -71,6 +75,24 @@ class AESCryptographicAlgorithmTest {
         assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
     }
     
+    @Test
+    void assertDecryptWithReusedCipher() {
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+        assertThat(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt("foo_value")), is("foo_value"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertDecryptInDifferentThread() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+            assertThat(executorService.submit(() -> cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==")).get(), is("test"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
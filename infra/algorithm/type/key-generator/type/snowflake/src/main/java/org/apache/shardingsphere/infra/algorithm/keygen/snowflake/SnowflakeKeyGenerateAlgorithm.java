@@ -31,8 +31,8 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -80,9 +80,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong state = new AtomicLong();
     
     private Properties props;
     
@@ -124,42 +122,63 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     @HighFrequencyInvocation
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        int remainingCount = keyGenerateCount;
+        while (remainingCount > 0) {
+            long reservedState = reserveSequences(remainingCount);
+            long keyPrefix = (((reservedState >>> SEQUENCE_BITS) - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS);
+            long firstSequence = reservedState & SEQUENCE_MASK;
+            int reservedCount = (int) Math.min(remainingCount, SEQUENCE_MASK - firstSequence + 1L);
+            for (long each = firstSequence; each < firstSequence + reservedCount; each++) {
+                result.add(keyPrefix | each);
+            }
+            remainingCount -= reservedCount;
         }
         return result;
     }
     
+    /**
+     * Reserve a contiguous block of sequences in one millisecond by CAS on the packed last millis and last sequence.
+     *
+     * @param expectedCount expected count of sequences, the block may be smaller if the millisecond runs out of sequences
+     * @return packed millis and first sequence of the reserved block
+     */
     @HighFrequencyInvocation
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private long reserveSequences(final int expectedCount) {
+        while (true) {
+            long currentState = state.get();
+            long lastMillis = currentState >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (currentMillis < lastMillis) {
+                waitTolerateTimeDifference(lastMillis, currentMillis);
+                continue;
+            }
+            long firstSequence;
+            if (currentMillis == lastMillis) {
+                long lastSequence = currentState & SEQUENCE_MASK;
+                if (SEQUENCE_MASK == lastSequence) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                    firstSequence = 0L;
+                } else {
+                    firstSequence = lastSequence + 1L;
+                }
+            } else {
+                vibrateSequenceOffset();
+                firstSequence = sequenceOffset.get();
+            }
+            long lastReservedSequence = Math.min(firstSequence + expectedCount - 1L, SEQUENCE_MASK);
+            if (state.compareAndSet(currentState, (currentMillis << SEQUENCE_BITS) | lastReservedSequence)) {
+                return (currentMillis << SEQUENCE_BITS) | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
     private long waitUntilNextTime(final long lastTime) {
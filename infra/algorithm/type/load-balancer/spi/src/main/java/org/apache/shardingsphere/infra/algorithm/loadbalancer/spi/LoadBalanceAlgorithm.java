@@ -44,4 +44,16 @@ public interface LoadBalanceAlgorithm extends ShardingSphereAlgorithm {
      * @return available target names
      */
     String getTargetName(String groupName, List<String> availableTargetNames);
+    
+    /**
+     * Get target name with logic database name.
+     *
+     * @param databaseName logic database name
+     * @param groupName group name which uniquely identifies available target names
+     * @param availableTargetNames available target names
+     * @return available target names
+     */
+    default String getTargetName(final String databaseName, final String groupName, final List<String> availableTargetNames) {
+        return getTargetName(groupName, availableTargetNames);
+    }
 }
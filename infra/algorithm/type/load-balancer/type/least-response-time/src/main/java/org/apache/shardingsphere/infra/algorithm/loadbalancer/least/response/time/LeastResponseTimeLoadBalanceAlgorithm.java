@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Least response time load balance algorithm.
+ *
+ * <p>Picks two random targets and routes to the one with lower score, score is time decayed EWMA of response time multiplied by in-flight count plus one.
+ * Target without response time sample takes the mean score of known targets, and every {@code PROBE_INTERVAL} selections route to the higher scored one
+ * to refresh its statistics.</p>
+ */
+public final class LeastResponseTimeLoadBalanceAlgorithm implements LoadBalanceAlgorithm {
+    
+    private static final int PROBE_INTERVAL = 64;
+    
+    private final AtomicInteger selectionCount = new AtomicInteger();
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        return getTargetName(null, groupName, availableTargetNames);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String databaseName, final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        long firstScore = ResponseTimeStatisticsRegistry.getScore(databaseName, firstTargetName);
+        long secondScore = ResponseTimeStatisticsRegistry.getScore(databaseName, secondTargetName);
+        if (ResponseTimeStatisticsRegistry.UNKNOWN_SCORE == firstScore || ResponseTimeStatisticsRegistry.UNKNOWN_SCORE == secondScore) {
+            long neutralScore = ResponseTimeStatisticsRegistry.getNeutralScore(databaseName, availableTargetNames);
+            firstScore = ResponseTimeStatisticsRegistry.UNKNOWN_SCORE == firstScore ? neutralScore : firstScore;
+            secondScore = ResponseTimeStatisticsRegistry.UNKNOWN_SCORE == secondScore ? neutralScore : secondScore;
+        }
+        boolean isSecondBetter = secondScore < firstScore;
+        boolean isProbe = 0 == selectionCount.incrementAndGet() % PROBE_INTERVAL;
+        return isSecondBetter != isProbe ? secondTargetName : firstTargetName;
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_RESPONSE_TIME";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response time statistics registry, statistics are keyed by logic database name and target name.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResponseTimeStatisticsRegistry {
+    
+    /**
+     * Score of target without response time sample.
+     */
+    public static final long UNKNOWN_SCORE = -1L;
+    
+    private static final String UNKNOWN_DATABASE_NAME = "";
+    
+    private static final Map<String, Map<String, TargetResponseTimeStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create statistics.
+     *
+     * @param databaseName logic database name, null if unknown
+     * @param targetName target name
+     * @return statistics
+     */
+    public static TargetResponseTimeStatistics getOrCreateStatistics(final String databaseName, final String targetName) {
+        Map<String, TargetResponseTimeStatistics> databaseStatistics = getDatabaseStatistics(databaseName);
+        if (null == databaseStatistics) {
+            databaseStatistics = STATISTICS.computeIfAbsent(getDatabaseKey(databaseName), key -> new ConcurrentHashMap<>());
+        }
+        TargetResponseTimeStatistics result = databaseStatistics.get(targetName);
+        return null == result ? databaseStatistics.computeIfAbsent(targetName, key -> new TargetResponseTimeStatistics()) : result;
+    }
+    
+    /**
+     * Get load score of target.
+     *
+     * @param databaseName logic database name, null if unknown
+     * @param targetName target name
+     * @return load score, {@code UNKNOWN_SCORE} if target has no response time sample
+     */
+    @HighFrequencyInvocation
+    public static long getScore(final String databaseName, final String targetName) {
+        Map<String, TargetResponseTimeStatistics> databaseStatistics = getDatabaseStatistics(databaseName);
+        TargetResponseTimeStatistics statistics = null == databaseStatistics ? null : databaseStatistics.get(targetName);
+        return null == statistics || 0L == statistics.getEwmaNanos() ? UNKNOWN_SCORE : statistics.getScore();
+    }
+    
+    /**
+     * Get neutral score for target without response time sample, which is the mean score of known targets.
+     *
+     * @param databaseName logic database name, null if unknown
+     * @param targetNames target names
+     * @return neutral score, {@code UNKNOWN_SCORE} if none of targets has response time sample
+     */
+    public static long getNeutralScore(final String databaseName, final Collection<String> targetNames) {
+        long totalScore = 0L;
+        int knownCount = 0;
+        for (String each : targetNames) {
+            long score = getScore(databaseName, each);
+            if (UNKNOWN_SCORE != score) {
+                totalScore += score;
+                knownCount++;
+            }
+        }
+        return 0 == knownCount ? UNKNOWN_SCORE : totalScore / knownCount;
+    }
+    
+    private static Map<String, TargetResponseTimeStatistics> getDatabaseStatistics(final String databaseName) {
+        return STATISTICS.get(getDatabaseKey(databaseName));
+    }
+    
+    private static String getDatabaseKey(final String databaseName) {
+        return null == databaseName ? UNKNOWN_DATABASE_NAME : databaseName;
+    }
+    
+    /**
+     * Clear statistics.
+     */
+    public static void clear() {
+        STATISTICS.clear();
+    }
+}
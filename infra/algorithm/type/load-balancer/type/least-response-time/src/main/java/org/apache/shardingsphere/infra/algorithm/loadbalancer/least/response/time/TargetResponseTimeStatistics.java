@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Response time statistics of target, which keeps time decayed EWMA of response time and in-flight count.
+ *
+ * <p>EWMA halves every {@code DECAY_HALF_LIFE_NANOS} without new samples, so a target penalized by failures becomes competitive again after a while.</p>
+ */
+public final class TargetResponseTimeStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long DECAY_HALF_LIFE_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile long ewmaNanos;
+    
+    private volatile long lastUpdateNanos;
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished.
+     *
+     * @param elapsedNanos elapsed nanos of execution
+     * @param isSuccess is execution success or not
+     */
+    public void finish(final long elapsedNanos, final boolean isSuccess) {
+        finish(elapsedNanos, isSuccess, System.nanoTime());
+    }
+    
+    synchronized void finish(final long elapsedNanos, final boolean isSuccess, final long nowNanos) {
+        inFlightCount.updateAndGet(each -> Math.max(0, each - 1));
+        long sampleNanos = isSuccess ? elapsedNanos : Math.max(elapsedNanos, FAILURE_PENALTY_NANOS);
+        long decayedNanos = getEwmaNanos(nowNanos);
+        ewmaNanos = 0L == decayedNanos ? sampleNanos : decayedNanos + (long) ((sampleNanos - decayedNanos) * SMOOTHING_FACTOR);
+        lastUpdateNanos = nowNanos;
+    }
+    
+    /**
+     * Get time decayed EWMA of response time in nanos.
+     *
+     * @return time decayed EWMA of response time in nanos
+     */
+    public long getEwmaNanos() {
+        return getEwmaNanos(System.nanoTime());
+    }
+    
+    long getEwmaNanos(final long nowNanos) {
+        long result = ewmaNanos;
+        long idleNanos = nowNanos - lastUpdateNanos;
+        return 0L == result || idleNanos <= 0L ? result : (long) (result * Math.pow(0.5D, (double) idleNanos / DECAY_HALF_LIFE_NANOS));
+    }
+    
+    /**
+     * Get in-flight count.
+     *
+     * @return in-flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get load score, the lower the better.
+     *
+     * @return load score
+     */
+    public long getScore() {
+        return getScore(System.nanoTime());
+    }
+    
+    long getScore(final long nowNanos) {
+        return getEwmaNanos(nowNanos) * (inFlightCount.get() + 1);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LeastResponseTimeLoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_RESPONSE_TIME", new Properties());
+    
+    @AfterEach
+    void tearDown() {
+        ResponseTimeStatisticsRegistry.clear();
+    }
+    
+    @Test
+    void assertGetTargetNameWithSingleTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", Collections.singletonList("read_ds_0")), is("read_ds_0"));
+    }
+    
+    @Test
+    void assertGetTargetNameAvoidSlowTarget() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(100000000L, true);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), is("read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameAvoidBusyTarget() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").start();
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), is("read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithStatisticsOfOtherDatabase() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(100000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("bar_db", "read_ds_0").finish(100000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("bar_db", "read_ds_1").finish(1000000L, true);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("bar_db", "ds", availableTargetNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithUnknownTarget() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(100000000L, true);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), not("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameProbeSlowTarget() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(1000000000L, false);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+        int slowTargetCount = 0;
+        for (int i = 0; i < 128; i++) {
+            if ("read_ds_1".equals(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames))) {
+                slowTargetCount++;
+            }
+        }
+        assertThat(slowTargetCount, is(2));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseTimeSQLExecutionHookTest {
+    
+    @AfterEach
+    void tearDown() {
+        ResponseTimeStatisticsRegistry.clear();
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        ResponseTimeSQLExecutionHook hook = new ResponseTimeSQLExecutionHook();
+        hook.start("foo_db", "read_ds_0", "SELECT 1", Collections.emptyList(), null, true);
+        TargetResponseTimeStatistics statistics = ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0");
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getEwmaNanos() > 0L);
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        ResponseTimeSQLExecutionHook hook = new ResponseTimeSQLExecutionHook();
+        hook.start("foo_db", "read_ds_0", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(new SQLException("failed"));
+        hook.finishFailure(new SQLException("failed"));
+        TargetResponseTimeStatistics statistics = ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0");
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getEwmaNanos() >= 900000000L);
+    }
+    
+    @Test
+    void assertStartWithoutDatabaseName() {
+        ResponseTimeSQLExecutionHook hook = new ResponseTimeSQLExecutionHook();
+        hook.start("read_ds_0", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(ResponseTimeStatisticsRegistry.getOrCreateStatistics(null, "read_ds_0").getInFlightCount(), is(1));
+        assertThat(ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").getInFlightCount(), is(0));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ResponseTimeStatisticsRegistryTest {
+    
+    @AfterEach
+    void tearDown() {
+        ResponseTimeStatisticsRegistry.clear();
+    }
+    
+    @Test
+    void assertGetOrCreateStatistics() {
+        TargetResponseTimeStatistics actual = ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0");
+        assertThat(ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0"), sameInstance(actual));
+        assertThat(ResponseTimeStatisticsRegistry.getOrCreateStatistics("bar_db", "read_ds_0"), not(sameInstance(actual)));
+        assertThat(ResponseTimeStatisticsRegistry.getOrCreateStatistics(null, "read_ds_0"), not(sameInstance(actual)));
+    }
+    
+    @Test
+    void assertGetScoreWithUnknownTarget() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").start();
+        assertThat(ResponseTimeStatisticsRegistry.getScore("foo_db", "read_ds_0"), is(ResponseTimeStatisticsRegistry.UNKNOWN_SCORE));
+        assertThat(ResponseTimeStatisticsRegistry.getScore("bar_db", "read_ds_0"), is(ResponseTimeStatisticsRegistry.UNKNOWN_SCORE));
+    }
+    
+    @Test
+    void assertGetNeutralScore() {
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_0").finish(1000000L, true);
+        ResponseTimeStatisticsRegistry.getOrCreateStatistics("foo_db", "read_ds_1").finish(3000000L, true);
+        long actual = ResponseTimeStatisticsRegistry.getNeutralScore("foo_db", Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"));
+        assertThat(actual > ResponseTimeStatisticsRegistry.getScore("foo_db", "read_ds_0"), is(true));
+        assertThat(actual < ResponseTimeStatisticsRegistry.getScore("foo_db", "read_ds_1"), is(true));
+    }
+    
+    @Test
+    void assertGetNeutralScoreWithoutKnownTarget() {
+        assertThat(ResponseTimeStatisticsRegistry.getNeutralScore("foo_db", Collections.singletonList("read_ds_0")), is(ResponseTimeStatisticsRegistry.UNKNOWN_SCORE));
+    }
+}
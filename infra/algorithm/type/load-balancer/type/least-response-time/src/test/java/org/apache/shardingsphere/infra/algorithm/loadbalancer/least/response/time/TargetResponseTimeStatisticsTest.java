@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.response.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TargetResponseTimeStatisticsTest {
+    
+    @Test
+    void assertFinish() {
+        TargetResponseTimeStatistics statistics = new TargetResponseTimeStatistics();
+        statistics.start();
+        statistics.finish(1000L, true, 0L);
+        assertThat(statistics.getEwmaNanos(0L), is(1000L));
+        statistics.finish(2000L, true, 0L);
+        assertThat(statistics.getEwmaNanos(0L), is(1200L));
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertGetEwmaNanosWithDecay() {
+        TargetResponseTimeStatistics statistics = new TargetResponseTimeStatistics();
+        statistics.finish(1000L, true, 0L);
+        assertThat(statistics.getEwmaNanos(TimeUnit.SECONDS.toNanos(10L)), is(500L));
+        assertThat(statistics.getEwmaNanos(TimeUnit.SECONDS.toNanos(20L)), is(250L));
+    }
+    
+    @Test
+    void assertGetScore() {
+        TargetResponseTimeStatistics statistics = new TargetResponseTimeStatistics();
+        statistics.finish(1000L, true, 0L);
+        statistics.start();
+        assertThat(statistics.getScore(0L), is(2000L));
+    }
+    
+    @Test
+    void assertRecoverAfterFailurePenalty() {
+        TargetResponseTimeStatistics healthyStatistics = new TargetResponseTimeStatistics();
+        TargetResponseTimeStatistics penalizedStatistics = new TargetResponseTimeStatistics();
+        penalizedStatistics.finish(0L, false, 0L);
+        long healthyNanos = TimeUnit.MILLISECONDS.toNanos(1L);
+        long nowNanos = 0L;
+        for (int i = 0; i <= 120; i++) {
+            nowNanos = TimeUnit.SECONDS.toNanos(i);
+            healthyStatistics.finish(healthyNanos, true, nowNanos);
+        }
+        assertTrue(penalizedStatistics.getScore(nowNanos) < healthyStatistics.getScore(nowNanos));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DMLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bound SQL statement cache of a prepared statement.
+ *
+ * <p>Each prepared statement owns its own cache, so bound SQL statements are never shared between sessions.
+ * The cached entry is keyed on the parsed statement, the current database and the rule version, which is the rules of the current database and the global rules at binding time.
+ * The cached entry is immutable and is replaced when the meta data, the current database, any rule or any table or view referenced by the statement has changed since binding.
+ * Only binding is skipped, routing and rewriting still run for every execution because they depend on parameters.</p>
+ */
+public final class BoundSQLStatementCache {
+    
+    private volatile BoundSQLStatement cached;
+    
+    /**
+     * Get SQL statement context, bind SQL statement only if no valid bound SQL statement is cached.
+     *
+     * @param sqlStatement SQL statement to be bound
+     * @param metaData meta data
+     * @param currentDatabaseName current database name
+     * @param hintValueContext hint value context
+     * @return SQL statement context
+     */
+    public SQLStatementContext get(final SQLStatement sqlStatement, final ShardingSphereMetaData metaData, final String currentDatabaseName, final HintValueContext hintValueContext) {
+        if (!isCacheable(sqlStatement, hintValueContext)) {
+            return new SQLBindEngine(metaData, currentDatabaseName, hintValueContext).bind(sqlStatement);
+        }
+        BoundSQLStatement boundSQLStatement = cached;
+        if (null != boundSQLStatement && boundSQLStatement.isValid(sqlStatement, metaData, currentDatabaseName)) {
+            return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement.getBoundSQLStatement(), currentDatabaseName);
+        }
+        SQLStatementContext result = new SQLBindEngine(metaData, currentDatabaseName, hintValueContext).bind(sqlStatement);
+        cached = new BoundSQLStatement(sqlStatement, result.getSqlStatement(), metaData, currentDatabaseName, getRules(metaData, currentDatabaseName), getBoundTables(metaData, result));
+        return result;
+    }
+    
+    private boolean isCacheable(final SQLStatement sqlStatement, final HintValueContext hintValueContext) {
+        return sqlStatement instanceof DMLStatement && !hintValueContext.isSkipMetadataValidate()
+                && !hintValueContext.findHintDataSourceName().isPresent() && !HintManager.getDataSourceName().isPresent();
+    }
+    
+    private static List<ShardingSphereRule> getRules(final ShardingSphereMetaData metaData, final String currentDatabaseName) {
+        List<ShardingSphereRule> result = new ArrayList<>(metaData.getGlobalRuleMetaData().getRules());
+        if (null != currentDatabaseName && metaData.containsDatabase(currentDatabaseName)) {
+            result.addAll(metaData.getDatabase(currentDatabaseName).getRuleMetaData().getRules());
+        }
+        return result;
+    }
+    
+    private static boolean isSameRules(final List<ShardingSphereRule> rules, final List<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i) != currentRules.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<BoundTable> getBoundTables(final ShardingSphereMetaData metaData, final SQLStatementContext sqlStatementContext) {
+        Collection<BoundTable> result = new ArrayList<>(sqlStatementContext.getTablesContext().getSimpleTables().size());
+        for (SimpleTableSegment each : sqlStatementContext.getTablesContext().getSimpleTables()) {
+            Optional<TableSegmentBoundInfo> boundInfo = each.getTableName().getTableBoundInfo();
+            if (boundInfo.isPresent()) {
+                String databaseName = boundInfo.get().getOriginalDatabase().getValue();
+                String schemaName = boundInfo.get().getOriginalSchema().getValue();
+                String tableName = each.getTableName().getIdentifier().getValue();
+                result.add(new BoundTable(databaseName, schemaName, tableName, findSchema(metaData, databaseName, schemaName).orElse(null), findTable(metaData, databaseName, schemaName, tableName),
+                        findView(metaData, databaseName, schemaName, tableName)));
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<ShardingSphereSchema> findSchema(final ShardingSphereMetaData metaData, final String databaseName, final String schemaName) {
+        if (!metaData.containsDatabase(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        return database.containsSchema(schemaName) ? Optional.of(database.getSchema(schemaName)) : Optional.empty();
+    }
+    
+    private static ShardingSphereTable findTable(final ShardingSphereMetaData metaData, final String databaseName, final String schemaName, final String tableName) {
+        return findSchema(metaData, databaseName, schemaName).map(optional -> optional.getTable(tableName)).orElse(null);
+    }
+    
+    private static ShardingSphereView findView(final ShardingSphereMetaData metaData, final String databaseName, final String schemaName, final String viewName) {
+        return findSchema(metaData, databaseName, schemaName).map(optional -> optional.getView(viewName)).orElse(null);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BoundSQLStatement {
+        
+        private final SQLStatement sqlStatement;
+        
+        @Getter
+        private final SQLStatement boundSQLStatement;
+        
+        private final ShardingSphereMetaData metaData;
+        
+        private final String currentDatabaseName;
+        
+        private final List<ShardingSphereRule> rules;
+        
+        private final Collection<BoundTable> boundTables;
+        
+        boolean isValid(final SQLStatement sqlStatement, final ShardingSphereMetaData metaData, final String currentDatabaseName) {
+            return this.sqlStatement == sqlStatement && this.metaData == metaData && Objects.equals(this.currentDatabaseName, currentDatabaseName)
+                    && isSameRules(rules, getRules(metaData, currentDatabaseName)) && boundTables.stream().allMatch(each -> each.isValid(metaData));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BoundTable {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final ShardingSphereSchema schema;
+        
+        private final ShardingSphereTable table;
+        
+        private final ShardingSphereView view;
+        
+        boolean isValid(final ShardingSphereMetaData metaData) {
+            Optional<ShardingSphereSchema> currentSchema = findSchema(metaData, databaseName, schemaName);
+            if (!currentSchema.isPresent()) {
+                return null == schema;
+            }
+            return schema == currentSchema.get() && table == currentSchema.get().getTable(tableName) && view == currentSchema.get().getView(tableName);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+class BoundSQLStatementCacheTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final BoundSQLStatementCache cache = new BoundSQLStatementCache();
+    
+    private final HintValueContext hintValueContext = new HintValueContext();
+    
+    private ShardingSphereSchema schema;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private DeleteStatement sqlStatement;
+    
+    @BeforeEach
+    void setUp() {
+        schema = new ShardingSphereSchema("foo_db", Collections.singleton(createTable()), Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", databaseType,
+                new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.singleton(schema));
+        metaData = new ShardingSphereMetaData(Collections.singleton(database),
+                new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        sqlStatement = new DeleteStatement(databaseType);
+        sqlStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("t_order", Collections.singleton(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+    
+    @Test
+    void assertGetWithCachedBoundSQLStatement() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        SQLStatementContext second = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        assertThat(first.getSqlStatement(), not(sqlStatement));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getSqlStatement(), sameInstance(first.getSqlStatement()));
+    }
+    
+    @Test
+    void assertGetWithAlteredTable() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        schema.putTable(createTable());
+        assertThat(cache.get(sqlStatement, metaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+    
+    @Test
+    void assertGetWithReplacedMetaData() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        ShardingSphereMetaData replacedMetaData = new ShardingSphereMetaData(metaData.getAllDatabases(), metaData.getGlobalResourceMetaData(), metaData.getGlobalRuleMetaData(), metaData.getProps());
+        assertThat(cache.get(sqlStatement, replacedMetaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+    
+    @Test
+    void assertGetWithAlteredRule() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        metaData.getDatabase("foo_db").getRuleMetaData().getRules().add(mock(ShardingSphereRule.class));
+        assertThat(cache.get(sqlStatement, metaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+    
+    @Test
+    void assertGetWithAlteredGlobalRule() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        metaData.getGlobalRuleMetaData().getRules().add(mock(ShardingSphereRule.class));
+        assertThat(cache.get(sqlStatement, metaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+    
+    @Test
+    void assertGetWithSkipMetadataValidateHint() {
+        hintValueContext.setSkipMetadataValidate(true);
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        assertThat(cache.get(sqlStatement, metaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+    
+    @Test
+    void assertGetWithAnotherSQLStatement() {
+        SQLStatementContext first = cache.get(sqlStatement, metaData, "foo_db", hintValueContext);
+        DeleteStatement anotherSQLStatement = new DeleteStatement(databaseType);
+        anotherSQLStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        assertThat(cache.get(anotherSQLStatement, metaData, "foo_db", hintValueContext).getSqlStatement(), not(sameInstance(first.getSqlStatement())));
+    }
+}
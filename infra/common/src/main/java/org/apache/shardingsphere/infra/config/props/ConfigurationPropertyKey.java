@@ -48,6 +48,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with one virtual thread per task instead of worker group, only available when running on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max concurrent execution tasks for each data source when virtual thread is enabled.
+     * Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -59,6 +70,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_UNION_SIZE_PER_DATASOURCE("max-union-size-per-datasource", String.valueOf(Integer.MAX_VALUE), int.class, false),
     
+    /**
+     * Minimum query results size to merge order by with loser tree instead of priority queue.
+     */
+    ORDER_BY_LOSER_TREE_MERGE_THRESHOLD("order-by-loser-tree-merge-threshold", String.valueOf(16), int.class, false),
+    
+    /**
+     * Memory budget in bytes for group by memory merge, partial aggregates exceeding it will be spilled to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MEMORY_MERGE_BUDGET("group-by-memory-merge-budget", String.valueOf(0), long.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -79,6 +101,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold of bytes written since last flush for ShardingSphere-Proxy.
+     * Less than or equal to 0 means flush by record count only.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(1024 * 1024), long.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -135,6 +163,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED("persist-schemas-to-repository-enabled", String.valueOf(Boolean.TRUE), boolean.class, true),
     
+    /**
+     * Whether validate persisted schemas with storage unit fingerprints in background after startup, reload changed tables and drop missing tables.
+     */
+    SCHEMA_SNAPSHOT_VALIDATION_ENABLED("schema-snapshot-validation-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether load table meta data lazily on first access instead of loading all tables at startup.
+     */
+    LAZY_TABLE_METADATA_LOADING_ENABLED("lazy-table-metadata-loading-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max concurrency of loading table meta data lazily.
+     */
+    LAZY_TABLE_METADATA_LOADING_MAX_CONCURRENCY("lazy-table-metadata-loading-max-concurrency", "8", int.class, true),
+    
+    /**
+     * Max replication lag in milliseconds of readwrite-splitting read data sources, read data sources lagging more than it will not be routed to. 0 means disable replication lag probing.
+     */
+    READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS("readwrite-splitting-max-replication-lag-milliseconds", String.valueOf(0), long.class, true),
+    
+    /**
+     * Replication lag probing interval in milliseconds of readwrite-splitting read data sources.
+     */
+    READWRITE_SPLITTING_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS("readwrite-splitting-replication-lag-probe-interval-milliseconds", String.valueOf(1000), long.class, true),
+    
     /**
      * Maximum size of Groovy inline expression parsing cache.
      */
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegist
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -81,12 +82,19 @@ public final class ShardingSphereDatabaseFactory {
                                                 final ConfigurationProperties props, final ComputeNodeInstanceContext computeNodeInstanceContext) throws SQLException {
         ResourceMetaData resourceMetaData = new ResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
-        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder.build(protocolType,
-                new GenericSchemaBuilderMaterial(resourceMetaData.getStorageUnits(), databaseRules, props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(resourceMetaData.getStorageUnits(), databaseRules, props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name));
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(isLazyTableMetaDataLoading(protocolType, props)
+                ? GenericSchemaBuilder.buildLazily(protocolType, material, props.<Integer>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_MAX_CONCURRENCY))
+                : GenericSchemaBuilder.build(protocolType, material));
         SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
         return new ShardingSphereDatabase(name, protocolType, resourceMetaData, new RuleMetaData(databaseRules), schemas.values());
     }
     
+    private static boolean isLazyTableMetaDataLoading(final DatabaseType protocolType, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED) && !props.<Boolean>getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)
+                && !new DatabaseTypeRegistry(protocolType).getDialectDatabaseMetaData().getSchemaOption().isSchemaAvailable();
+    }
+    
     /**
      * Create database.
      *
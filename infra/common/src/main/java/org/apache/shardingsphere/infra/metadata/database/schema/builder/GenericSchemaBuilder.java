@@ -25,8 +25,11 @@ import org.apache.shardingsphere.database.connector.core.metadata.data.model.Sch
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.reviser.MetaDataReviseEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtils;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -76,6 +79,29 @@ public final class GenericSchemaBuilder {
         return revise(result, material);
     }
     
+    /**
+     * Build generic schema lazily, table meta data will be loaded on first access.
+     *
+     * @param protocolType database type
+     * @param material generic schema builder material
+     * @param maxConcurrency max concurrency of loading tables
+     * @return generic schema map
+     */
+    public static Map<String, ShardingSphereSchema> buildLazily(final DatabaseType protocolType, final GenericSchemaBuilderMaterial material, final int maxConcurrency) {
+        String schemaName = new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(material.getDefaultSchemaName());
+        LazyTableLoader lazyTableLoader = new LazyTableLoader(getAllTableNames(material.getRules()), tableName -> loadTable(tableName, schemaName, protocolType, material), maxConcurrency);
+        return Collections.singletonMap(schemaName, new ShardingSphereSchema(schemaName, lazyTableLoader));
+    }
+    
+    private static ShardingSphereTable loadTable(final String tableName, final String schemaName, final DatabaseType protocolType, final GenericSchemaBuilderMaterial material) {
+        try {
+            ShardingSphereSchema schema = build(Collections.singleton(tableName), protocolType, material).get(schemaName);
+            return null == schema ? null : schema.getTable(tableName);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         Collection<String> result = new HashSet<>();
         for (ShardingSphereRule each : rules) {
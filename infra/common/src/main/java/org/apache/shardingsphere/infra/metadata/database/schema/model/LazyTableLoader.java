@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Lazy table loader, which loads table meta data on first access.
+ */
+public final class LazyTableLoader {
+    
+    private final Map<ShardingSphereIdentifier, String> pendingTableNames = new ConcurrentHashMap<>();
+    
+    private final Map<ShardingSphereIdentifier, CompletableFuture<ShardingSphereTable>> loadingTables = new ConcurrentHashMap<>();
+    
+    private final Function<String, ShardingSphereTable> loadFunction;
+    
+    private final Semaphore loadPermits;
+    
+    public LazyTableLoader(final Collection<String> tableNames, final Function<String, ShardingSphereTable> loadFunction, final int maxConcurrency) {
+        this(tableNames, loadFunction, new Semaphore(Math.max(1, maxConcurrency)));
+    }
+    
+    private LazyTableLoader(final Collection<String> tableNames, final Function<String, ShardingSphereTable> loadFunction, final Semaphore loadPermits) {
+        tableNames.forEach(each -> pendingTableNames.put(new ShardingSphereIdentifier(each), each));
+        this.loadFunction = loadFunction;
+        this.loadPermits = loadPermits;
+    }
+    
+    /**
+     * Copy loader with current pending tables, the copied loader shares load function and concurrency with this loader.
+     *
+     * @return copied loader
+     */
+    public LazyTableLoader copy() {
+        return new LazyTableLoader(new ArrayList<>(pendingTableNames.values()), loadFunction, loadPermits);
+    }
+    
+    /**
+     * Judge whether table is pending to load.
+     *
+     * @param tableName table name
+     * @return is pending or not
+     */
+    public boolean isPending(final ShardingSphereIdentifier tableName) {
+        return pendingTableNames.containsKey(tableName);
+    }
+    
+    /**
+     * Get pending table names.
+     *
+     * @return pending table names
+     */
+    public Collection<String> getPendingTableNames() {
+        return new ArrayList<>(pendingTableNames.values());
+    }
+    
+    /**
+     * Judge whether no table is pending to load.
+     *
+     * @return no table is pending or not
+     */
+    public boolean isEmpty() {
+        return pendingTableNames.isEmpty();
+    }
+    
+    /**
+     * Remove pending table.
+     *
+     * @param tableName table name
+     */
+    public void remove(final ShardingSphereIdentifier tableName) {
+        pendingTableNames.remove(tableName);
+    }
+    
+    /**
+     * Load table if it is pending, concurrent loads of same table share one loading.
+     *
+     * @param tableName table name
+     * @param loadedTables loaded tables, which loaded table will be put into
+     * @return loaded table, null if table is not pending or not existed
+     */
+    public ShardingSphereTable load(final ShardingSphereIdentifier tableName, final Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables) {
+        if (!pendingTableNames.containsKey(tableName)) {
+            return loadedTables.get(tableName);
+        }
+        CompletableFuture<ShardingSphereTable> future = new CompletableFuture<>();
+        CompletableFuture<ShardingSphereTable> loadingFuture = loadingTables.putIfAbsent(tableName, future);
+        if (null != loadingFuture) {
+            return join(loadingFuture);
+        }
+        try {
+            String pendingTableName = pendingTableNames.get(tableName);
+            ShardingSphereTable result = null == pendingTableName ? loadedTables.get(tableName) : loadWithPermit(pendingTableName);
+            if (null != result) {
+                loadedTables.putIfAbsent(tableName, result);
+            }
+            pendingTableNames.remove(tableName);
+            future.complete(result);
+            return result;
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadingTables.remove(tableName, future);
+        }
+    }
+    
+    /**
+     * Load all pending tables.
+     *
+     * @param loadedTables loaded tables, which loaded tables will be put into
+     */
+    public void loadAll(final Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables) {
+        for (ShardingSphereIdentifier each : new ArrayList<>(pendingTableNames.keySet())) {
+            load(each, loadedTables);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private ShardingSphereTable loadWithPermit(final String tableName) {
+        loadPermits.acquire();
+        try {
+            return loadFunction.apply(tableName);
+        } finally {
+            loadPermits.release();
+        }
+    }
+    
+    private ShardingSphereTable join(final CompletableFuture<ShardingSphereTable> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+}
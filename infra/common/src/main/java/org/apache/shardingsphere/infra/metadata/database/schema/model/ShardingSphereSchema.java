@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentif
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -38,11 +39,14 @@ public final class ShardingSphereSchema {
     
     private final Map<ShardingSphereIdentifier, ShardingSphereView> views;
     
+    private final LazyTableLoader lazyTableLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema(final String name) {
         this.name = name;
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTableLoader = null;
     }
     
     public ShardingSphereSchema(final String name, final Collection<ShardingSphereTable> tables, final Collection<ShardingSphereView> views) {
@@ -51,25 +55,66 @@ public final class ShardingSphereSchema {
         this.views = new ConcurrentHashMap<>(views.size(), 1F);
         tables.forEach(each -> this.tables.put(new ShardingSphereIdentifier(each.getName()), each));
         views.forEach(each -> this.views.put(new ShardingSphereIdentifier(each.getName()), each));
+        lazyTableLoader = null;
+    }
+    
+    @SuppressWarnings("CollectionWithoutInitialCapacity")
+    public ShardingSphereSchema(final String name, final LazyTableLoader lazyTableLoader) {
+        this.name = name;
+        tables = new ConcurrentHashMap<>();
+        views = new ConcurrentHashMap<>();
+        this.lazyTableLoader = lazyTableLoader;
+    }
+    
+    public ShardingSphereSchema(final String name, final ShardingSphereSchema schema, final Collection<ShardingSphereView> views) {
+        this.name = name;
+        lazyTableLoader = null == schema.lazyTableLoader ? null : schema.lazyTableLoader.copy();
+        tables = new ConcurrentHashMap<>(schema.tables);
+        this.views = new ConcurrentHashMap<>(views.size(), 1F);
+        views.forEach(each -> this.views.put(new ShardingSphereIdentifier(each.getName()), each));
     }
     
     /**
      * Get all tables.
      *
+     * <p>Tables which are pending to load lazily are loaded first.</p>
+     *
      * @return all tables
      */
     public Collection<ShardingSphereTable> getAllTables() {
+        if (null != lazyTableLoader && !lazyTableLoader.isEmpty()) {
+            lazyTableLoader.loadAll(tables);
+        }
         return tables.values();
     }
     
+    /**
+     * Get all table names.
+     *
+     * <p>Tables which are pending to load lazily are included without loading.</p>
+     *
+     * @return all table names
+     */
+    public Collection<String> getAllTableNames() {
+        Map<ShardingSphereIdentifier, String> result = new LinkedHashMap<>(tables.size(), 1F);
+        tables.forEach((key, value) -> result.put(key, value.getName()));
+        if (null != lazyTableLoader) {
+            lazyTableLoader.getPendingTableNames().forEach(each -> result.putIfAbsent(new ShardingSphereIdentifier(each), each));
+        }
+        return result.values();
+    }
+    
     /**
      * Judge whether contains table.
      *
+     * <p>Tables which are pending to load lazily are treated as contained without loading.</p>
+     *
      * @param tableName table name
      * @return contains table or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(new ShardingSphereIdentifier(tableName));
+        ShardingSphereIdentifier identifier = new ShardingSphereIdentifier(tableName);
+        return tables.containsKey(identifier) || null != lazyTableLoader && lazyTableLoader.isPending(identifier);
     }
     
     /**
@@ -79,7 +124,13 @@ public final class ShardingSphereSchema {
      * @return table
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(new ShardingSphereIdentifier(tableName));
+        ShardingSphereIdentifier identifier = new ShardingSphereIdentifier(tableName);
+        ShardingSphereTable result = tables.get(identifier);
+        return null == result ? loadPendingTable(identifier) : result;
+    }
+    
+    private ShardingSphereTable loadPendingTable(final ShardingSphereIdentifier tableName) {
+        return null != lazyTableLoader && lazyTableLoader.isPending(tableName) ? lazyTableLoader.load(tableName, tables) : null;
     }
     
     /**
@@ -88,7 +139,11 @@ public final class ShardingSphereSchema {
      * @param table table
      */
     public void putTable(final ShardingSphereTable table) {
-        tables.put(new ShardingSphereIdentifier(table.getName()), table);
+        ShardingSphereIdentifier identifier = new ShardingSphereIdentifier(table.getName());
+        tables.put(identifier, table);
+        if (null != lazyTableLoader) {
+            lazyTableLoader.remove(identifier);
+        }
     }
     
     /**
@@ -97,7 +152,11 @@ public final class ShardingSphereSchema {
      * @param tableName table name
      */
     public void removeTable(final String tableName) {
-        tables.remove(new ShardingSphereIdentifier(tableName));
+        ShardingSphereIdentifier identifier = new ShardingSphereIdentifier(tableName);
+        tables.remove(identifier);
+        if (null != lazyTableLoader) {
+            lazyTableLoader.remove(identifier);
+        }
     }
     
     /**
@@ -155,7 +214,8 @@ public final class ShardingSphereSchema {
      * @return contains index or not
      */
     public boolean containsIndex(final String tableName, final String indexName) {
-        return containsTable(tableName) && getTable(tableName).containsIndex(indexName);
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.containsIndex(indexName);
     }
     
     /**
@@ -165,7 +225,8 @@ public final class ShardingSphereSchema {
      * @return visible column names
      */
     public List<String> getVisibleColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getVisibleColumns();
     }
     
     /**
@@ -175,7 +236,8 @@ public final class ShardingSphereSchema {
      * @return visible column and index map
      */
     public Map<String, Integer> getVisibleColumnAndIndexMap(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumnAndIndexMap() : Collections.emptyMap();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyMap() : table.getVisibleColumnAndIndexMap();
     }
     
     /**
@@ -184,6 +246,6 @@ public final class ShardingSphereSchema {
      * @return empty schema or not
      */
     public boolean isEmpty() {
-        return tables.isEmpty() && views.isEmpty();
+        return tables.isEmpty() && views.isEmpty() && (null == lazyTableLoader || lazyTableLoader.isEmpty());
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LazyTableLoaderTest {
+    
+    @Test
+    void assertLoad() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableLoader loader = new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> table, 1);
+        Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        assertThat(loader.load(new ShardingSphereIdentifier("FOO_TBL"), loadedTables), is(table));
+        assertThat(loadedTables.get(new ShardingSphereIdentifier("foo_tbl")), is(table));
+        assertTrue(loader.isEmpty());
+    }
+    
+    @Test
+    void assertLoadAll() {
+        LazyTableLoader loader = new LazyTableLoader(Arrays.asList("foo_tbl", "bar_tbl"), tableName -> mock(ShardingSphereTable.class), 1);
+        Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        loader.loadAll(loadedTables);
+        assertThat(loadedTables.size(), is(2));
+        assertTrue(loader.isEmpty());
+    }
+    
+    @Test
+    void assertGetPendingTableNames() {
+        LazyTableLoader loader = new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> mock(ShardingSphereTable.class), 1);
+        assertThat(loader.getPendingTableNames(), is(Collections.singletonList("foo_tbl")));
+        loader.load(new ShardingSphereIdentifier("foo_tbl"), new ConcurrentHashMap<>());
+        assertTrue(loader.getPendingTableNames().isEmpty());
+    }
+    
+    @Test
+    void assertCopy() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableLoader loader = new LazyTableLoader(Arrays.asList("foo_tbl", "bar_tbl"), tableName -> table, 1);
+        loader.load(new ShardingSphereIdentifier("foo_tbl"), new ConcurrentHashMap<>());
+        LazyTableLoader actual = loader.copy();
+        assertFalse(actual.isPending(new ShardingSphereIdentifier("foo_tbl")));
+        assertTrue(actual.isPending(new ShardingSphereIdentifier("bar_tbl")));
+        assertThat(actual.load(new ShardingSphereIdentifier("bar_tbl"), new ConcurrentHashMap<>()), is(table));
+        assertTrue(loader.isPending(new ShardingSphereIdentifier("bar_tbl")));
+    }
+    
+    @Test
+    void assertLoadNotExistedTable() {
+        LazyTableLoader loader = new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> null, 1);
+        Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        assertNull(loader.load(new ShardingSphereIdentifier("foo_tbl"), loadedTables));
+        assertTrue(loadedTables.isEmpty());
+        assertFalse(loader.isPending(new ShardingSphereIdentifier("foo_tbl")));
+    }
+    
+    @Test
+    void assertLoadFailed() {
+        LazyTableLoader loader = new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> {
+            throw new IllegalStateException("load failed");
+        }, 1);
+        assertThrows(IllegalStateException.class, () -> loader.load(new ShardingSphereIdentifier("foo_tbl"), new ConcurrentHashMap<>()));
+        assertTrue(loader.isPending(new ShardingSphereIdentifier("foo_tbl")));
+    }
+    
+    @Test
+    void assertLoadConcurrentlyOnlyOnce() throws Exception {
+        AtomicInteger loadTimes = new AtomicInteger();
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        LazyTableLoader loader = new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> {
+            loadTimes.incrementAndGet();
+            awaitQuietly(loadingLatch);
+            return table;
+        }, 2);
+        Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Future<ShardingSphereTable> first = executorService.submit(() -> loader.load(new ShardingSphereIdentifier("foo_tbl"), loadedTables));
+            Future<ShardingSphereTable> second = executorService.submit(() -> loader.load(new ShardingSphereIdentifier("foo_tbl"), loadedTables));
+            Thread.sleep(50L);
+            loadingLatch.countDown();
+            assertThat(first.get(5L, TimeUnit.SECONDS), is(table));
+            assertThat(second.get(5L, TimeUnit.SECONDS), is(table));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(loadTimes.get(), is(1));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -174,4 +176,72 @@ class ShardingSphereSchemaTest {
     void assertIsEmpty() {
         assertTrue(new ShardingSphereSchema("foo_db").isEmpty());
     }
+    
+    @Test
+    void assertGetTableLazily() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getName()).thenReturn("foo_tbl");
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> table, 1));
+        assertFalse(schema.isEmpty());
+        assertTrue(schema.containsTable("foo_tbl"));
+        assertThat(schema.getTable("foo_tbl"), is(table));
+        assertThat(schema.getAllTables().size(), is(1));
+    }
+    
+    @Test
+    void assertGetAllTablesWithPendingTables() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getName()).thenReturn("foo_tbl");
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> table, 1));
+        assertThat(schema.getAllTables().size(), is(1));
+        assertThat(schema.getAllTables().iterator().next(), is(table));
+    }
+    
+    @Test
+    void assertGetAllTableNamesWithPendingTables() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getName()).thenReturn("foo_tbl");
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList());
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("bar_tbl"), tableName -> {
+            throw new IllegalStateException("load failed");
+        }, 1));
+        actual.putTable(table);
+        assertThat(new ArrayList<>(actual.getAllTableNames()), is(Arrays.asList("foo_tbl", "bar_tbl")));
+        assertTrue(actual.containsTable("bar_tbl"));
+        assertThat(new ArrayList<>(schema.getAllTableNames()), is(Collections.singletonList("foo_tbl")));
+    }
+    
+    @Test
+    void assertContainsPendingTableWithoutLoading() {
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> {
+            throw new IllegalStateException("load failed");
+        }, 1));
+        assertTrue(schema.containsTable("foo_tbl"));
+        assertFalse(schema.containsTable("bar_tbl"));
+    }
+    
+    @Test
+    void assertCopyWithPendingTables() {
+        ShardingSphereTable fooTable = mock(ShardingSphereTable.class);
+        when(fooTable.getName()).thenReturn("foo_tbl");
+        ShardingSphereTable barTable = mock(ShardingSphereTable.class);
+        when(barTable.getName()).thenReturn("bar_tbl");
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Arrays.asList("foo_tbl", "bar_tbl"), tableName -> "foo_tbl".equals(tableName) ? fooTable : barTable, 1));
+        schema.getTable("foo_tbl");
+        ShardingSphereView view = mock(ShardingSphereView.class);
+        when(view.getName()).thenReturn("foo_view");
+        ShardingSphereSchema actual = new ShardingSphereSchema("bar_db", schema, Collections.singleton(view));
+        assertThat(actual.getName(), is("bar_db"));
+        assertThat(actual.getTable("bar_tbl"), is(barTable));
+        assertThat(actual.getAllTables().size(), is(2));
+        assertTrue(actual.containsView("foo_view"));
+    }
+    
+    @Test
+    void assertRemovePendingTable() {
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> mock(ShardingSphereTable.class), 1));
+        schema.removeTable("foo_tbl");
+        assertFalse(schema.containsTable("foo_tbl"));
+        assertTrue(schema.isEmpty());
+    }
 }
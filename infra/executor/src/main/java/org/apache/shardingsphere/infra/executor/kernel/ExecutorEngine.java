@@ -19,20 +19,29 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecutionResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceConcurrencyLimiter;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -43,8 +52,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final DataSourceConcurrencyLimiter dataSourceConcurrencyLimiter;
+    
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(new ExecutorServiceManager(executorSize), null);
+    }
+    
+    private ExecutorEngine(final ExecutorServiceManager executorServiceManager, final DataSourceConcurrencyLimiter dataSourceConcurrencyLimiter) {
+        this.executorServiceManager = executorServiceManager;
+        this.dataSourceConcurrencyLimiter = dataSourceConcurrencyLimiter;
     }
     
     /**
@@ -57,6 +73,29 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine which executes each task with a new virtual thread.
+     *
+     * @param maxConcurrencyPerDataSource max concurrent tasks for each data source, less than or equal to 0 means no limitation
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithVirtualThread(final int maxConcurrencyPerDataSource) {
+        return new ExecutorEngine(ExecutorServiceManager.createVirtualThreadPerTaskExecutorServiceManager(),
+                maxConcurrencyPerDataSource > 0 ? new DataSourceConcurrencyLimiter(maxConcurrencyPerDataSource) : null);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)
+                ? createExecutorEngineWithVirtualThread(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE))
+                : createExecutorEngineWithSize(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    }
+    
     /**
      * Execute.
      *
@@ -96,7 +135,7 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, processId);
+        return executeGroup(executionGroup, processId, callback, true);
     }
     
     private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
@@ -108,7 +147,63 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+        return executorServiceManager.getExecutorService().submit(() -> executeGroup(executionGroup, processId, callback, false));
+    }
+    
+    private <I, O> Collection<O> executeGroup(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback, final boolean isTrunkThread) throws SQLException {
+        if (null == dataSourceConcurrencyLimiter || null == executionGroup.getDataSourceName()) {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread, processId);
+        }
+        try {
+            dataSourceConcurrencyLimiter.acquire(executionGroup.getDataSourceName());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+        try {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread, processId);
+        } finally {
+            dataSourceConcurrencyLimiter.release(executionGroup.getDataSourceName());
+        }
+    }
+    
+    /**
+     * Execute and take results in completion order.
+     * 
+     * <p>The first execution group is executed in trunk thread, other execution groups are executed asynchronously and their results are taken as soon as they complete.
+     * If the first execution group fails, other execution groups which are still running are cancelled and the exception is thrown.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param canceller canceller for execution groups which are still running when execution fails
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execution results in completion order
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> CompletionOrderExecutionResults<I, O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                                              final ExecutorCallback<I, O> callback, final Consumer<ExecutionGroup<I>> canceller) throws SQLException {
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures = new LinkedHashMap<>(executionGroupContext.getInputGroups().size(), 1F);
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return new CompletionOrderExecutionResults<>(Collections.emptyList(), completionService, restFutures, canceller);
+        }
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            restFutures.put(completionService.submit(() -> executeGroup(each, processId, callback, false)), each);
+        }
+        CompletionOrderExecutionResults<I, O> result;
+        try {
+            result = new CompletionOrderExecutionResults<>(executeGroup(firstInputs, processId, null == firstCallback ? callback : firstCallback, true), completionService, restFutures, canceller);
+        } catch (final SQLException ex) {
+            new CompletionOrderExecutionResults<>(Collections.emptyList(), completionService, restFutures, canceller).cancel();
+            throw ex;
+        }
+        return result;
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Execution results in completion order.
+ * 
+ * <p>Results of the first execution group are executed in trunk thread and available immediately, results of other execution groups are taken as soon as they complete.
+ * If any execution group fails, execution groups which are still running are cancelled.</p>
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+@RequiredArgsConstructor
+public final class CompletionOrderExecutionResults<I, O> {
+    
+    @Getter
+    private final Collection<O> firstResults;
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private final Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures;
+    
+    private final Consumer<ExecutionGroup<I>> canceller;
+    
+    private int takenCount;
+    
+    /**
+     * Judge whether results of execution groups are left to be taken.
+     *
+     * @return results are left or not
+     */
+    public synchronized boolean hasNext() {
+        return takenCount < restFutures.size();
+    }
+    
+    /**
+     * Take results of next completed execution group, wait if none is completed.
+     *
+     * @return results of next completed execution group
+     * @throws SQLException throw if execution group fails
+     */
+    public synchronized Collection<O> next() throws SQLException {
+        takenCount++;
+        try {
+            return completionService.take().get();
+        } catch (final ExecutionException ex) {
+            cancel();
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    /**
+     * Cancel execution groups which are still running.
+     */
+    public void cancel() {
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : restFutures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                entry.getKey().cancel(true);
+                canceller.accept(entry.getValue());
+            }
+        }
+    }
+}
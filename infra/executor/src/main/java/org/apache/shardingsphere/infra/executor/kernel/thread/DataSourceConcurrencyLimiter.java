@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Data source concurrency limiter.
+ */
+@RequiredArgsConstructor
+public final class DataSourceConcurrencyLimiter {
+    
+    private final int maxConcurrency;
+    
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    
+    /**
+     * Acquire permit of data source.
+     *
+     * @param dataSourceName data source name
+     * @throws InterruptedException interrupted exception
+     */
+    public void acquire(final String dataSourceName) throws InterruptedException {
+        getSemaphore(dataSourceName).acquire();
+    }
+    
+    /**
+     * Release permit of data source.
+     *
+     * @param dataSourceName data source name
+     */
+    public void release(final String dataSourceName) {
+        getSemaphore(dataSourceName).release();
+    }
+    
+    private Semaphore getSemaphore(final String dataSourceName) {
+        Semaphore result = semaphores.get(dataSourceName);
+        return null == result ? semaphores.computeIfAbsent(dataSourceName, key -> new Semaphore(maxConcurrency)) : result;
+    }
+}
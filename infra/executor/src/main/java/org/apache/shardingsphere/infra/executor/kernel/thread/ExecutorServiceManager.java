@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -45,6 +47,26 @@ public final class ExecutorServiceManager {
         executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
     }
     
+    private ExecutorServiceManager(final ExecutorService executorService) {
+        this.executorService = TtlExecutors.getTtlExecutorService(executorService);
+    }
+    
+    /**
+     * Create executor service manager which starts a new virtual thread for each task.
+     * 
+     * <p>Falls back to cached thread pool if virtual thread is not supported by current JVM.</p>
+     *
+     * @return created executor service manager
+     */
+    public static ExecutorServiceManager createVirtualThreadPerTaskExecutorServiceManager() {
+        try {
+            return new ExecutorServiceManager((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual thread is not supported by current JVM, use cached thread pool instead.");
+            return new ExecutorServiceManager(0, DEFAULT_NAME_FORMAT);
+        }
+    }
+    
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
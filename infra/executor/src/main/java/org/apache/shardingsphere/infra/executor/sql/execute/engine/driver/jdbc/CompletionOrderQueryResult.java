@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Optional;
+
+/**
+ * Query result which is bound to the next completed execution group on first access.
+ */
+@RequiredArgsConstructor
+final class CompletionOrderQueryResult implements QueryResult {
+    
+    private final CompletionOrderQueryResultSource source;
+    
+    private final QueryResultMetaData firstMetaData;
+    
+    private QueryResult delegate;
+    
+    private QueryResult getDelegate() throws SQLException {
+        if (null == delegate) {
+            delegate = source.take();
+        }
+        return delegate;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return getDelegate().next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getDelegate().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getDelegate().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getDelegate().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return getDelegate().getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getDelegate().wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return null == delegate ? firstMetaData : delegate.getMetaData();
+    }
+    
+    @Override
+    public Optional<ResultSet> getJDBCResultSet() {
+        return null == delegate ? Optional.empty() : delegate.getJDBCResultSet();
+    }
+    
+    @Override
+    public void close() throws Exception {
+        if (null != delegate) {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecutionResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.LinkedList;
+
+/**
+ * Source of query results which are taken in completion order of execution groups.
+ */
+@RequiredArgsConstructor
+final class CompletionOrderQueryResultSource {
+    
+    private final CompletionOrderExecutionResults<JDBCExecutionUnit, ?> executionResults;
+    
+    private final Deque<QueryResult> completedResults = new LinkedList<>();
+    
+    /**
+     * Take next completed query result, wait if none is completed.
+     *
+     * @return next completed query result
+     * @throws SQLException SQL exception
+     */
+    synchronized QueryResult take() throws SQLException {
+        while (completedResults.isEmpty()) {
+            for (Object each : executionResults.next()) {
+                completedResults.add((QueryResult) each);
+            }
+        }
+        return completedResults.poll();
+    }
+}
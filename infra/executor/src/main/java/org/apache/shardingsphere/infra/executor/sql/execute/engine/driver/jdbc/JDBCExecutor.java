@@ -18,13 +18,22 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecutionResults;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -69,4 +78,69 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute query.
+     * 
+     * <p>If merging does not depend on the order of query results, which means there is no order by, pagination or combine, the query results of the first execution group are returned
+     * together with query results which are bound to other execution groups in completion order on first access, so results of fast data nodes can be consumed before slow ones finish.
+     * Statements of execution groups which are still running are cancelled if any execution group fails.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExecuteResult> List<T> executeQuery(final SQLStatementContext sqlStatementContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                          final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (!isOrderInsensitiveQuery(sqlStatementContext) || connectionContext.getTransactionContext().isDistributedTransactionStarted()) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        CompletionOrderExecutionResults<JDBCExecutionUnit, T> executionResults;
+        try {
+            executionResults = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, this::cancelStatements);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+        List<T> result = new LinkedList<>(executionResults.getFirstResults());
+        if (result.isEmpty()) {
+            while (executionResults.hasNext()) {
+                result.addAll(executionResults.next());
+            }
+            return result;
+        }
+        CompletionOrderQueryResultSource source = new CompletionOrderQueryResultSource(executionResults);
+        QueryResultMetaData firstMetaData = ((QueryResult) result.get(0)).getMetaData();
+        Iterator<ExecutionGroup<JDBCExecutionUnit>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        executionGroups.next();
+        while (executionGroups.hasNext()) {
+            int inputSize = executionGroups.next().getInputs().size();
+            for (int i = 0; i < inputSize; i++) {
+                result.add((T) new CompletionOrderQueryResult(source, firstMetaData));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isOrderInsensitiveQuery(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.getOrderByContext().getItems().isEmpty() && !selectStatementContext.getPaginationContext().isHasPagination() && !selectStatementContext.isContainsCombine();
+    }
+    
+    private void cancelStatements(final ExecutionGroup<JDBCExecutionUnit> executionGroup) {
+        for (JDBCExecutionUnit each : executionGroup.getInputs()) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
 }
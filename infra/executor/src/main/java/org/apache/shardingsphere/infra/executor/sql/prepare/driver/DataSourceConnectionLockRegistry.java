@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Data source connection lock registry.
+ * 
+ * <p>Guards acquiring multiple connections from one data source with explicit locks instead of monitors, so virtual threads waiting for connections are not pinned to carrier threads.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceConnectionLockRegistry {
+    
+    private static final ConcurrentMap<DataSource, Lock> LOCKS = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get connection lock of data source.
+     *
+     * @param dataSource data source
+     * @return connection lock
+     */
+    public static Lock getLock(final DataSource dataSource) {
+        Lock result = LOCKS.get(dataSource);
+        return null == result ? LOCKS.computeIfAbsent(dataSource, key -> new ReentrantLock()) : result;
+    }
+}
@@ -112,6 +112,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (ExecutionUnit each : executionUnits) {
             inputs.add((T) sqlExecutionUnitBuilder.build(each, statementManager, connection, connectionOffset, connectionMode, option, databaseType));
         }
-        return new ExecutionGroup<>(inputs);
+        return new ExecutionGroup<>(inputs, dataSourceName);
     }
 }
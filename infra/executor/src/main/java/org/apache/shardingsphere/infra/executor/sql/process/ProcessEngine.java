@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -85,6 +86,20 @@ public final class ProcessEngine {
         ProcessRegistry.getInstance().add(new Process(queryContext.getSql(), executionGroupContext));
     }
     
+    /**
+     * Find database name of process.
+     *
+     * @param processId process ID
+     * @return found database name
+     */
+    public Optional<String> findDatabaseName(final String processId) {
+        if (Strings.isNullOrEmpty(processId)) {
+            return Optional.empty();
+        }
+        Process process = ProcessRegistry.getInstance().get(processId);
+        return null == process ? Optional.empty() : Optional.ofNullable(process.getDatabaseName());
+    }
+    
     /**
      * Complete SQL unit execution.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecutionResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -26,13 +27,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -82,10 +89,98 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithVirtualThread() throws SQLException, InterruptedException {
+        Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            executionGroups.add(new ExecutionGroup<>(createMockedInputs(2), "foo_ds"));
+        }
+        try (ExecutorEngine virtualThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithVirtualThread(1)) {
+            List<String> actual = virtualThreadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        ExecutionGroupContext<Object> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("first")), new ExecutionGroup<>(Collections.singletonList("slow")), new ExecutionGroup<>(Collections.singletonList("fast"))),
+                mock(ExecutionGroupReportContext.class));
+        CompletionOrderExecutionResults<Object, Object> actual = executorEngine.executeInCompletionOrder(executionGroupContext, null, (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("slow")) {
+                awaitQuietly(slowGroupLatch);
+            }
+            return inputs;
+        }, group -> {
+        });
+        assertThat(actual.getFirstResults(), is(Collections.<Object>singletonList("first")));
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is(Collections.<Object>singletonList("fast")));
+        slowGroupLatch.countDown();
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is(Collections.<Object>singletonList("slow")));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailureAndCancelRunningGroups() throws SQLException {
+        CountDownLatch blockingGroupLatch = new CountDownLatch(1);
+        ExecutionGroup<Object> blockingGroup = new ExecutionGroup<>(Collections.singletonList("blocking"));
+        ExecutionGroupContext<Object> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("first")), blockingGroup, new ExecutionGroup<>(Collections.singletonList("failure"))), mock(ExecutionGroupReportContext.class));
+        List<ExecutionGroup<Object>> cancelledGroups = new CopyOnWriteArrayList<>();
+        CompletionOrderExecutionResults<Object, Object> actual = executorEngine.executeInCompletionOrder(executionGroupContext, null, (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("blocking")) {
+                awaitQuietly(blockingGroupLatch);
+            }
+            if (inputs.contains("failure")) {
+                throw new SQLException("failure");
+            }
+            return inputs;
+        }, group -> {
+            cancelledGroups.add(group);
+            blockingGroupLatch.countDown();
+        });
+        assertThrows(SQLException.class, actual::next);
+        assertThat(cancelledGroups, is(Collections.singletonList(blockingGroup)));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFirstGroupFailureAndCancelRunningGroups() {
+        CountDownLatch blockingGroupLatch = new CountDownLatch(1);
+        ExecutionGroup<Object> blockingGroup = new ExecutionGroup<>(Collections.singletonList("blocking"));
+        ExecutionGroupContext<Object> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("failure")), blockingGroup), mock(ExecutionGroupReportContext.class));
+        List<ExecutionGroup<Object>> cancelledGroups = new CopyOnWriteArrayList<>();
+        assertThrows(SQLException.class, () -> executorEngine.executeInCompletionOrder(executionGroupContext, null, (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("blocking")) {
+                awaitQuietly(blockingGroupLatch);
+            }
+            if (inputs.contains("failure")) {
+                throw new SQLException("failure");
+            }
+            return inputs;
+        }, group -> {
+            cancelledGroups.add(group);
+            blockingGroupLatch.countDown();
+        }));
+        assertThat(cancelledGroups, is(Collections.singletonList(blockingGroup)));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
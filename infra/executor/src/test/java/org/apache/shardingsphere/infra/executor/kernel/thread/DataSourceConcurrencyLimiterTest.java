@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSourceConcurrencyLimiterTest {
+    
+    @Test
+    void assertAcquireAndRelease() throws InterruptedException {
+        DataSourceConcurrencyLimiter limiter = new DataSourceConcurrencyLimiter(1);
+        limiter.acquire("foo_ds");
+        limiter.acquire("bar_ds");
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire("foo_ds");
+                acquired.set(true);
+                latch.countDown();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        assertFalse(latch.await(100L, TimeUnit.MILLISECONDS));
+        assertFalse(acquired.get());
+        limiter.release("foo_ds");
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+        assertTrue(acquired.get());
+    }
+}
@@ -17,24 +17,34 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JDBCExecutorTest {
@@ -75,4 +85,61 @@ class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList(), reportContext), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertExecuteQueryWithOrderBy() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        QueryResult queryResult = mock(QueryResult.class);
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenReturn(Collections.singletonList(queryResult));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getOrderByContext().getItems()).thenReturn(Collections.singletonList(mock(OrderByItem.class)));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet));
+        assertThat(jdbcExecutor.executeQuery(sqlStatementContext, context, null, null), is(Collections.singletonList(queryResult)));
+        verify(executorEngine, never()).executeInCompletionOrder(any(), any(), any(), any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteQueryInCompletionOrder() throws SQLException {
+        QueryResult firstQueryResult = mockQueryResult("first");
+        QueryResult slowQueryResult = mockQueryResult("slow");
+        QueryResult fastQueryResult = mockQueryResult("fast");
+        JDBCExecutionUnit firstUnit = mock(JDBCExecutionUnit.class);
+        JDBCExecutionUnit slowUnit = mock(JDBCExecutionUnit.class);
+        JDBCExecutionUnit fastUnit = mock(JDBCExecutionUnit.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Arrays.asList(new ExecutionGroup<>(Collections.singletonList(firstUnit)),
+                new ExecutionGroup<>(Collections.singletonList(slowUnit)), new ExecutionGroup<>(Collections.singletonList(fastUnit))), mock(ExecutionGroupReportContext.class));
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        JDBCExecutorCallback<QueryResult> callback = mock(JDBCExecutorCallback.class);
+        when(callback.execute(any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            Collection<JDBCExecutionUnit> inputs = invocation.getArgument(0);
+            if (inputs.contains(slowUnit)) {
+                slowGroupLatch.await();
+                return Collections.singletonList(slowQueryResult);
+            }
+            return Collections.singletonList(inputs.contains(fastUnit) ? fastQueryResult : firstQueryResult);
+        });
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2)) {
+            List<QueryResult> actual = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet)).executeQuery(sqlStatementContext, context, null, callback);
+            assertThat(actual.size(), is(3));
+            assertThat(actual.get(0), is(firstQueryResult));
+            assertTrue(actual.get(1).next());
+            assertThat(actual.get(1).getValue(1, Object.class), is("fast"));
+            assertThat(slowGroupLatch.getCount(), is(1L));
+            slowGroupLatch.countDown();
+            assertTrue(actual.get(2).next());
+            assertThat(actual.get(2).getValue(1, Object.class), is("slow"));
+        }
+    }
+    
+    private QueryResult mockQueryResult(final String value) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.next()).thenReturn(true);
+        when(result.getValue(1, Object.class)).thenReturn(value);
+        return result;
+    }
 }
@@ -41,8 +41,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -96,4 +100,18 @@ class ProcessEngineTest {
         new ProcessEngine().completeSQLUnitExecution(mock(SQLExecutionUnit.class), "foo_id");
         verify(processRegistry).get("foo_id");
     }
+    
+    @Test
+    void assertFindDatabaseName() {
+        Process process = mock(Process.class);
+        when(process.getDatabaseName()).thenReturn("foo_db");
+        when(processRegistry.get("foo_id")).thenReturn(process);
+        assertThat(new ProcessEngine().findDatabaseName("foo_id"), is(Optional.of("foo_db")));
+    }
+    
+    @Test
+    void assertFindDatabaseNameWithoutProcess() {
+        assertFalse(new ProcessEngine().findDatabaseName("bar_id").isPresent());
+        assertFalse(new ProcessEngine().findDatabaseName(null).isPresent());
+    }
 }
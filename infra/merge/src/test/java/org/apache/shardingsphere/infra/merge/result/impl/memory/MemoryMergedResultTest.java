@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.fixture.TestMemoryMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.test.infra.fixture.rule.MockedRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -29,7 +33,9 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -57,6 +63,22 @@ class MemoryMergedResultTest {
         assertFalse(memoryMergedResult.next());
     }
     
+    @Test
+    void assertGetValueBeforeNextWithRowIterator() throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultRow(new Object[]{"1"});
+        MemoryMergedResult<MockedRule> actual = new MemoryMergedResult<MockedRule>(Collections.singletonList(row).iterator()) {
+            
+            @Override
+            protected List<MemoryQueryResultRow> init(final MockedRule rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+                return Collections.emptyList();
+            }
+        };
+        assertThat(actual.getValue(1, Object.class), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("1"));
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertGetValue() throws SQLException {
         when(memoryResultSetRow.getCell(1)).thenReturn("1");
@@ -113,7 +113,7 @@ public final class DriverJDBCPushDownExecuteQueryExecutor {
         ProcessEngine processEngine = new ProcessEngine();
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext));
+            return jdbcExecutor.executeQuery(queryContext.getSqlStatementContext(), executionGroupContext, null, new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext));
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
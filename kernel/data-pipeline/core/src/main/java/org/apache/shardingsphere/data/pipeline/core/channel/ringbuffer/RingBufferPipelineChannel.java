@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>Slots are pre-allocated, the fetch thread drains all published slots at once without lock.
+ * Push threads are serialized with each other, so it is cheapest with a single push thread.
+ * With blocking wait strategy, the waiting side parks until the other side signals it.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final int CLOCK_CHECK_MASK = 63;
+    
+    private static final long MAX_PUSH_AWAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final Object[] slots;
+    
+    private final int mask;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private volatile Thread waitingFetchThread;
+    
+    private volatile Thread waitingPushThread;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        slots = new Object[capacity];
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public synchronized void push(final List<Record> records) {
+        long currentTail = tail.get();
+        while (currentTail - head.get() >= slots.length) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            awaitFetched(currentTail);
+        }
+        slots[(int) currentTail & mask] = records;
+        tail.set(currentTail + 1L);
+        signal(waitingFetchThread);
+    }
+    
+    private void awaitFetched(final long currentTail) {
+        if (!waitStrategy.isBlocking()) {
+            waitStrategy.await(this, 0L);
+            return;
+        }
+        waitingPushThread = Thread.currentThread();
+        if (currentTail - head.get() >= slots.length) {
+            waitStrategy.await(this, MAX_PUSH_AWAIT_NANOS);
+        }
+        waitingPushThread = null;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long deadlineNanos = System.nanoTime() + remainingNanos;
+        int idleCount = 0;
+        while (true) {
+            drain(result, batchSize);
+            if (result.size() >= batchSize || remainingNanos <= 0L) {
+                return result;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            awaitPushed(remainingNanos);
+            if (waitStrategy.isBlocking() || 0 == (++idleCount & CLOCK_CHECK_MASK)) {
+                remainingNanos = deadlineNanos - System.nanoTime();
+            }
+        }
+    }
+    
+    private void awaitPushed(final long timeoutNanos) {
+        if (!waitStrategy.isBlocking()) {
+            waitStrategy.await(this, timeoutNanos);
+            return;
+        }
+        waitingFetchThread = Thread.currentThread();
+        if (head.get() == tail.get()) {
+            waitStrategy.await(this, timeoutNanos);
+        }
+        waitingFetchThread = null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void drain(final List<Record> result, final int batchSize) {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        if (currentHead == currentTail) {
+            return;
+        }
+        while (currentHead < currentTail && result.size() < batchSize) {
+            int index = (int) currentHead & mask;
+            List<Record> records = (List<Record>) slots[index];
+            slots[index] = null;
+            result.addAll(records);
+            currentHead++;
+        }
+        head.set(currentHead);
+        signal(waitingPushThread);
+    }
+    
+    private void signal(final Thread waitingThread) {
+        if (null != waitingThread) {
+            LockSupport.unpark(waitingThread);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> peek() {
+        long currentHead = head.get();
+        return currentHead < tail.get() ? (List<Record>) slots[(int) currentHead & mask] : Collections.emptyList();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> poll() {
+        long currentHead = head.get();
+        if (currentHead >= tail.get()) {
+            return Collections.emptyList();
+        }
+        int index = (int) currentHead & mask;
+        List<Record> result = (List<Record>) slots[index];
+        slots[index] = null;
+        head.set(currentHead + 1L);
+        signal(waitingPushThread);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+    
+    /**
+     * Get occupied slots count.
+     *
+     * @return occupied slots count
+     */
+    public int getOccupiedSlotsCount() {
+        return (int) (tail.get() - head.get());
+    }
+}
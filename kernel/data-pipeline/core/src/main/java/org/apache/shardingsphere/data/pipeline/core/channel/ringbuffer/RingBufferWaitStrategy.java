@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wait strategy of ring buffer pipeline channel.
+ */
+public enum RingBufferWaitStrategy {
+    
+    SPIN(false) {
+        
+        @Override
+        void await(final Object blocker, final long timeoutNanos) {
+        }
+    },
+    
+    YIELD(false) {
+        
+        @Override
+        void await(final Object blocker, final long timeoutNanos) {
+            Thread.yield();
+        }
+    },
+    
+    PARK(true) {
+        
+        @Override
+        void await(final Object blocker, final long timeoutNanos) {
+            LockSupport.parkNanos(blocker, timeoutNanos);
+        }
+    };
+    
+    private final boolean blocking;
+    
+    RingBufferWaitStrategy(final boolean blocking) {
+        this.blocking = blocking;
+    }
+    
+    /**
+     * Whether waiting thread blocks until it is signalled or timed out.
+     *
+     * @return is blocking or not
+     */
+    boolean isBlocking() {
+        return blocking;
+    }
+    
+    /**
+     * Wait while the ring buffer is full for producer or empty for consumer.
+     *
+     * @param blocker blocker
+     * @param timeoutNanos timeout nanoseconds, only for blocking strategy
+     */
+    abstract void await(Object blocker, long timeoutNanos);
+}
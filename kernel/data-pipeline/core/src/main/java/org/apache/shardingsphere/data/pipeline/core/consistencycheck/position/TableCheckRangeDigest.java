@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.position;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+
+/**
+ * Table check range digest.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class TableCheckRangeDigest {
+    
+    private final Object lowerBound;
+    
+    private final boolean lowerInclusive;
+    
+    private final Object upperBound;
+    
+    private final int sourceRecordsCount;
+    
+    private final String sourceDigest;
+    
+    private final int targetRecordsCount;
+    
+    private final String targetDigest;
+    
+    /**
+     * Get range.
+     *
+     * @return range
+     */
+    public Range<Object> getRange() {
+        return lowerInclusive ? Range.closed(lowerBound, upperBound) : Range.openClosed(lowerBound, upperBound);
+    }
+}
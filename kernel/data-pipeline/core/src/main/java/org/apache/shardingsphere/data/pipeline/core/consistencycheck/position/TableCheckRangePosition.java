@@ -24,6 +24,9 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.UniqueKeyIngestPosition;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Table check range position.
  */
@@ -53,4 +56,6 @@ public final class TableCheckRangePosition {
     private volatile boolean finished;
     
     private volatile Boolean matched;
+    
+    private final List<TableCheckRangeDigest> mismatchedRangeDigests = new CopyOnWriteArrayList<>();
 }
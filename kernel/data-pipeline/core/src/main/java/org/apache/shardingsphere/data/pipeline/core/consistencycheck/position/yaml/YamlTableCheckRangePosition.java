@@ -22,6 +22,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
 
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * Yaml table check range position.
  */
@@ -49,4 +52,6 @@ public final class YamlTableCheckRangePosition implements YamlConfiguration {
     private boolean finished;
     
     private Boolean matched;
+    
+    private List<YamlTableCheckRangeDigest> mismatchedRangeDigests = new LinkedList<>();
 }
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.yaml;
 
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangeDigest;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.UniqueKeyIngestPosition;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 
+import java.util.stream.Collectors;
+
 /**
  * Yaml table check range position swapper.
  */
@@ -39,13 +42,35 @@ public final class YamlTableCheckRangePositionSwapper implements YamlConfigurati
         result.setTargetPosition(data.getTargetPosition());
         result.setFinished(data.isFinished());
         result.setMatched(data.getMatched());
+        result.setMismatchedRangeDigests(data.getMismatchedRangeDigests().stream().map(this::swapToYamlConfiguration).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private YamlTableCheckRangeDigest swapToYamlConfiguration(final TableCheckRangeDigest data) {
+        YamlTableCheckRangeDigest result = new YamlTableCheckRangeDigest();
+        result.setLowerBound(data.getLowerBound());
+        result.setLowerInclusive(data.isLowerInclusive());
+        result.setUpperBound(data.getUpperBound());
+        result.setSourceRecordsCount(data.getSourceRecordsCount());
+        result.setSourceDigest(data.getSourceDigest());
+        result.setTargetRecordsCount(data.getTargetRecordsCount());
+        result.setTargetDigest(data.getTargetDigest());
         return result;
     }
     
     @Override
     public TableCheckRangePosition swapToObject(final YamlTableCheckRangePosition yamlConfig) {
-        return new TableCheckRangePosition(yamlConfig.getSplittingItem(), yamlConfig.getSourceDataNode(), yamlConfig.getLogicTableName(),
+        TableCheckRangePosition result = new TableCheckRangePosition(yamlConfig.getSplittingItem(), yamlConfig.getSourceDataNode(), yamlConfig.getLogicTableName(),
                 UniqueKeyIngestPosition.decode(yamlConfig.getSourceRange()), UniqueKeyIngestPosition.decode(yamlConfig.getTargetRange()),
                 yamlConfig.getQueryCondition(), yamlConfig.getSourcePosition(), yamlConfig.getTargetPosition(), yamlConfig.isFinished(), yamlConfig.getMatched());
+        if (null != yamlConfig.getMismatchedRangeDigests()) {
+            result.getMismatchedRangeDigests().addAll(yamlConfig.getMismatchedRangeDigests().stream().map(this::swapToObject).collect(Collectors.toList()));
+        }
+        return result;
+    }
+    
+    private TableCheckRangeDigest swapToObject(final YamlTableCheckRangeDigest yamlConfig) {
+        return new TableCheckRangeDigest(yamlConfig.getLowerBound(), yamlConfig.isLowerInclusive(), yamlConfig.getUpperBound(),
+                yamlConfig.getSourceRecordsCount(), yamlConfig.getSourceDigest(), yamlConfig.getTargetRecordsCount(), yamlConfig.getTargetDigest());
     }
 }
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangeDigest;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.DigestTableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordTableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Digest match table data consistency checker.
+ * 
+ * <p>Digests of unique key ranges are calculated by database on both sides, and only raw data of mismatched ranges are compared.
+ * Mismatched range digests are persisted in check progress, so a resumed check job does not recalculate finished ranges.
+ * Digests are not kept across check jobs and ranges touched by incremental changes are not tracked, every check job calculates digests of all ranges.</p>
+ */
+@Slf4j
+@SPIDescription("Match digests of record ranges calculated by database, and only compare raw data of mismatched ranges.")
+public final class DigestMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String STREAMING_RANGE_TYPE_KEY = "streaming-range-type";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    
+    private static final StreamingRangeType DEFAULT_STREAMING_RANGE_TYPE = StreamingRangeType.SMALL;
+    
+    private int chunkSize;
+    
+    private StreamingRangeType streamingRangeType;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getChunkSize(props);
+        streamingRangeType = getStreamingRangeType(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        String chunkSizeText = props.getProperty(CHUNK_SIZE_KEY);
+        if (Strings.isNullOrEmpty(chunkSizeText)) {
+            return DEFAULT_CHUNK_SIZE;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(chunkSizeText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'chunk-size' is not a valid number: `" + chunkSizeText + "`");
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException("Invalid 'chunk-size' value: `" + result + "`, it should be a positive integer.");
+        }
+        return result;
+    }
+    
+    private StreamingRangeType getStreamingRangeType(final Properties props) {
+        String streamingRangeTypeText = props.getProperty(STREAMING_RANGE_TYPE_KEY);
+        if (Strings.isNullOrEmpty(streamingRangeTypeText)) {
+            return DEFAULT_STREAMING_RANGE_TYPE;
+        }
+        try {
+            return StreamingRangeType.valueOf(streamingRangeTypeText.toUpperCase());
+        } catch (final IllegalArgumentException ex) {
+            throw new PipelineInvalidParameterException("Invalid 'streaming-range-type' value: `" + streamingRangeTypeText
+                    + "`, expected values are " + Arrays.toString(StreamingRangeType.values()));
+        }
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new DigestMatchTableInventoryChecker(param, chunkSize, streamingRangeType);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        Collection<DatabaseType> result = new LinkedList<>();
+        for (String each : Arrays.asList("MySQL", "PostgreSQL")) {
+            DatabaseType supportedDatabaseType = TypedSPILoader.getService(DatabaseType.class, each);
+            result.add(supportedDatabaseType);
+            result.addAll(new DatabaseTypeRegistry(supportedDatabaseType).getAllBranchDatabaseTypes());
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "DIGEST_MATCH";
+    }
+    
+    private static final class DigestMatchTableInventoryChecker implements TableInventoryChecker {
+        
+        private final TableInventoryCheckParameter param;
+        
+        private final int chunkSize;
+        
+        private final AtomicBoolean canceling = new AtomicBoolean(false);
+        
+        private final DigestTableInventoryCheckCalculator sourceDigestCalculator = new DigestTableInventoryCheckCalculator();
+        
+        private final DigestTableInventoryCheckCalculator targetDigestCalculator = new DigestTableInventoryCheckCalculator();
+        
+        private final RecordTableInventoryCheckCalculator sourceRecordCalculator;
+        
+        private final RecordTableInventoryCheckCalculator targetRecordCalculator;
+        
+        DigestMatchTableInventoryChecker(final TableInventoryCheckParameter param, final int chunkSize, final StreamingRangeType streamingRangeType) {
+            this.param = param;
+            this.chunkSize = chunkSize;
+            sourceRecordCalculator = new RecordTableInventoryCheckCalculator(chunkSize, streamingRangeType);
+            targetRecordCalculator = new RecordTableInventoryCheckCalculator(chunkSize, streamingRangeType);
+        }
+        
+        @Override
+        public Optional<TableDataConsistencyCheckResult> preCheck() {
+            if (param.getUniqueKeys().isEmpty()) {
+                return Optional.of(new TableDataConsistencyCheckResult(TableDataConsistencyCheckIgnoredType.NO_UNIQUE_KEY));
+            }
+            return Optional.empty();
+        }
+        
+        @Override
+        public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), ExecutorThreadFactoryBuilder.build(param.getJobId() + "-digest-check-%d"));
+            try {
+                TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
+                if (!checkRangePosition.isFinished()) {
+                    checkRangeDigests(checkRangePosition, executor);
+                    if (canceling.get()) {
+                        return new TableDataConsistencyCheckResult(false);
+                    }
+                    checkRangePosition.setFinished(true);
+                }
+                boolean matched = checkMismatchedRanges(checkRangePosition, executor);
+                checkRangePosition.setMatched(matched);
+                return new TableDataConsistencyCheckResult(matched);
+            } finally {
+                executor.shutdown();
+                executor.shutdownNow();
+            }
+        }
+        
+        private void checkRangeDigests(final TableCheckRangePosition checkRangePosition, final ThreadPoolExecutor executor) {
+            Object lowerBound = null == checkRangePosition.getSourcePosition() ? checkRangePosition.getSourceRange().getLowerBound() : checkRangePosition.getSourcePosition();
+            boolean lowerInclusive = null == checkRangePosition.getSourcePosition();
+            Object upperBound = checkRangePosition.getSourceRange().getUpperBound();
+            while (!canceling.get()) {
+                if (null != param.getReadRateLimitAlgorithm()) {
+                    param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+                }
+                Range<Object> remainingRange = createRange(lowerBound, lowerInclusive, upperBound);
+                Object chunkUpperBound = sourceDigestCalculator.calculateChunkUpperBound(createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), remainingRange), chunkSize)
+                        .orElse(null);
+                Range<Object> chunkRange = null == chunkUpperBound ? remainingRange : createRange(lowerBound, lowerInclusive, chunkUpperBound);
+                Future<DigestTableInventoryCheckCalculatedResult> sourceFuture = executor.submit(
+                        () -> sourceDigestCalculator.calculateRangeDigest(createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), chunkRange)));
+                Future<DigestTableInventoryCheckCalculatedResult> targetFuture = executor.submit(
+                        () -> targetDigestCalculator.calculateRangeDigest(createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), chunkRange)));
+                DigestTableInventoryCheckCalculatedResult sourceResult = PipelineTaskUtils.waitFuture(sourceFuture);
+                DigestTableInventoryCheckCalculatedResult targetResult = PipelineTaskUtils.waitFuture(targetFuture);
+                if (!sourceResult.equals(targetResult)) {
+                    log.info("Range digest not match, jobId={}, sourceTable={}, range={}, source={}, target={}", param.getJobId(), param.getSourceTable(), chunkRange, sourceResult, targetResult);
+                    checkRangePosition.getMismatchedRangeDigests().add(new TableCheckRangeDigest(lowerBound, lowerInclusive, chunkRange.getUpperBound(),
+                            sourceResult.getRecordsCount(), sourceResult.getDigest(), targetResult.getRecordsCount(), targetResult.getDigest()));
+                }
+                if (null == chunkUpperBound) {
+                    param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceResult.getRecordsCount()));
+                    return;
+                }
+                checkRangePosition.setSourcePosition(chunkUpperBound);
+                checkRangePosition.setTargetPosition(chunkUpperBound);
+                param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceResult.getRecordsCount()));
+                lowerBound = chunkUpperBound;
+                lowerInclusive = false;
+            }
+        }
+        
+        private boolean checkMismatchedRanges(final TableCheckRangePosition checkRangePosition, final ThreadPoolExecutor executor) {
+            for (TableCheckRangeDigest each : checkRangePosition.getMismatchedRangeDigests()) {
+                if (!isRecordsMatched(each.getRange(), executor)) {
+                    log.info("Records not match, jobId={}, sourceTable={}, targetTable={}, rangeDigest={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(), each);
+                    return false;
+                }
+                checkRangePosition.getMismatchedRangeDigests().remove(each);
+                param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(0));
+            }
+            return !canceling.get();
+        }
+        
+        private boolean isRecordsMatched(final Range<Object> range, final ThreadPoolExecutor executor) {
+            TableInventoryCalculateParameter sourceParam = createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), range);
+            TableInventoryCalculateParameter targetParam = createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), range);
+            try {
+                Iterator<TableInventoryCheckCalculatedResult> sourceCalculatedResults = PipelineTaskUtils.waitFuture(executor.submit(() -> sourceRecordCalculator.calculate(sourceParam))).iterator();
+                Iterator<TableInventoryCheckCalculatedResult> targetCalculatedResults = PipelineTaskUtils.waitFuture(executor.submit(() -> targetRecordCalculator.calculate(targetParam))).iterator();
+                while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                    TableInventoryCheckCalculatedResult sourceCalculatedResult = PipelineTaskUtils.waitFuture(executor.submit(sourceCalculatedResults::next));
+                    TableInventoryCheckCalculatedResult targetCalculatedResult = PipelineTaskUtils.waitFuture(executor.submit(targetCalculatedResults::next));
+                    if (!Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
+                        return false;
+                    }
+                }
+                return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+            } finally {
+                QuietlyCloser.close(sourceParam.getCalculationContext());
+                QuietlyCloser.close(targetParam.getCalculationContext());
+            }
+        }
+        
+        private Range<Object> createRange(final Object lowerBound, final boolean lowerInclusive, final Object upperBound) {
+            return lowerInclusive ? Range.closed(lowerBound, upperBound) : Range.openClosed(lowerBound, upperBound);
+        }
+        
+        private TableInventoryCalculateParameter createCalculateParameter(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Object> range) {
+            TableInventoryCalculateParameter result = new TableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
+            result.setRange(range);
+            return result;
+        }
+        
+        @Override
+        public void cancel() {
+            canceling.set(true);
+            sourceDigestCalculator.cancel();
+            targetDigestCalculator.cancel();
+            sourceRecordCalculator.cancel();
+            targetRecordCalculator.cancel();
+        }
+        
+        @Override
+        public boolean isCanceling() {
+            return canceling.get();
+        }
+    }
+}
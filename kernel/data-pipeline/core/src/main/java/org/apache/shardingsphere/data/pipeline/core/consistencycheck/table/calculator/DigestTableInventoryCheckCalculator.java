@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.AbstractTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Digest table inventory check calculator.
+ *
+ * <p>Records count and digest of a unique key range are both aggregated by SQL, only one row is returned for a range.</p>
+ */
+@Slf4j
+public final class DigestTableInventoryCheckCalculator extends AbstractTableInventoryCalculator<DigestTableInventoryCheckCalculatedResult> {
+    
+    @Override
+    public Iterable<DigestTableInventoryCheckCalculatedResult> calculate(final TableInventoryCalculateParameter param) {
+        return Collections.singletonList(calculateRangeDigest(param));
+    }
+    
+    /**
+     * Calculate upper bound of next chunk in range of parameter.
+     *
+     * @param param calculate parameter
+     * @param chunkSize chunk size
+     * @return upper bound of next chunk, empty if there is no record in range
+     */
+    public Optional<Object> calculateChunkUpperBound(final TableInventoryCalculateParameter param, final int chunkSize) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Calculate chunk upper bound canceled, qualified table: %s", param.getTable()));
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType()).buildRangeUpperBoundSQL(param.getTable(), param.getFirstUniqueKey().getName(), param.getRange());
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setCurrentStatement(preparedStatement);
+            int parameterIndex = setRangeParameters(preparedStatement, param.getRange());
+            preparedStatement.setInt(parameterIndex, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getObject(1)) : Optional.empty();
+            }
+        } catch (final SQLException ex) {
+            log.error("Calculate chunk upper bound failed, sql={}", sql, ex);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
+        }
+    }
+    
+    /**
+     * Calculate digest of records in range of parameter.
+     *
+     * @param param calculate parameter
+     * @return calculated result
+     */
+    public DigestTableInventoryCheckCalculatedResult calculateRangeDigest(final TableInventoryCalculateParameter param) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Calculate range digest canceled, qualified table: %s", param.getTable()));
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType())
+                .buildRangeDigestSQL(param.getTable(), param.getColumnNames(), param.getFirstUniqueKey().getName(), param.getRange())
+                .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "DIGEST", param.getDatabaseType()));
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setCurrentStatement(preparedStatement);
+            setRangeParameters(preparedStatement, param.getRange());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return new DigestTableInventoryCheckCalculatedResult(resultSet.getInt(1), resultSet.getString(2));
+            }
+        } catch (final SQLException ex) {
+            log.error("Calculate range digest failed, sql={}", sql, ex);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
+        }
+    }
+    
+    private int setRangeParameters(final PreparedStatement preparedStatement, final Range<?> range) throws SQLException {
+        int result = 1;
+        if (null != range.getLowerBound()) {
+            preparedStatement.setObject(result++, range.getLowerBound());
+        }
+        if (null != range.getUpperBound()) {
+            preparedStatement.setObject(result++, range.getUpperBound());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Partitioned channel consumer importer.
+ * <p>Data records are partitioned by table name and unique key, records of the same key are applied in order by the same partition thread.
+ * Fetched records are acknowledged in fetched order, only after all partitions applied them.
+ * Every partition writes through its own sink.</p>
+ */
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final List<PipelineSink> sinks;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final int partitionCount;
+    
+    private final Queue<PendingRecords> pendingRecordsQueue = new LinkedList<>();
+    
+    private final AtomicReference<RuntimeException> applyFailure = new AtomicReference<>();
+    
+    public PartitionedChannelConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis, final List<PipelineSink> sinks,
+                                              final PipelineJobProgressListener jobProgressListener) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sinks = sinks;
+        this.jobProgressListener = jobProgressListener;
+        partitionCount = sinks.size();
+    }
+    
+    @Override
+    protected void runBlocking() {
+        List<ExecutorService> partitionExecutors = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitionExecutors.add(Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("pipeline-importer-partition-" + i + "-%d")));
+        }
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                checkApplyFailure();
+                if (records.isEmpty()) {
+                    continue;
+                }
+                dispatch(partitionExecutors, records);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    waitUntilPendingAtMost(0);
+                    break;
+                }
+            }
+        } finally {
+            partitionExecutors.forEach(ExecutorService::shutdownNow);
+        }
+    }
+    
+    private void dispatch(final List<ExecutorService> partitionExecutors, final List<Record> records) {
+        Optional<List<List<DataRecord>>> partitionedDataRecords = partition(records);
+        if (!partitionedDataRecords.isPresent()) {
+            waitUntilPendingAtMost(0);
+            jobProgressListener.onProgressUpdated(sinks.get(0).write("", records));
+            channel.ack(records);
+            return;
+        }
+        waitUntilPendingAtMost(partitionCount - 1);
+        PendingRecords pendingRecords = new PendingRecords(records);
+        List<List<DataRecord>> partitions = partitionedDataRecords.get();
+        synchronized (pendingRecordsQueue) {
+            pendingRecordsQueue.add(pendingRecords);
+            for (List<DataRecord> each : partitions) {
+                if (!each.isEmpty()) {
+                    pendingRecords.remainingPartitionCount++;
+                }
+            }
+            if (0 == pendingRecords.remainingPartitionCount) {
+                ackAppliedRecords();
+                return;
+            }
+        }
+        for (int i = 0; i < partitionCount; i++) {
+            List<DataRecord> partitionRecords = partitions.get(i);
+            if (!partitionRecords.isEmpty()) {
+                PipelineSink sink = sinks.get(i);
+                partitionExecutors.get(i).execute(() -> apply(sink, pendingRecords, partitionRecords));
+            }
+        }
+    }
+    
+    private Optional<List<List<DataRecord>>> partition(final List<Record> records) {
+        List<List<DataRecord>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new LinkedList<>());
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            Optional<DataRecord.Key> partitionKey = findPartitionKey((DataRecord) each);
+            if (!partitionKey.isPresent()) {
+                return Optional.empty();
+            }
+            result.get(Math.floorMod(partitionKey.get().hashCode(), partitionCount)).add((DataRecord) each);
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<DataRecord.Key> findPartitionKey(final DataRecord dataRecord) {
+        if (dataRecord.getUniqueKeyValue().isEmpty()) {
+            return Optional.empty();
+        }
+        if (PipelineSQLOperationType.INSERT == dataRecord.getType()) {
+            return Optional.of(dataRecord.getKey());
+        }
+        if (PipelineSQLOperationType.DELETE == dataRecord.getType()) {
+            return Optional.of(dataRecord.getOldKey());
+        }
+        DataRecord.Key result = dataRecord.getKey();
+        return result.equals(dataRecord.getOldKey()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private void apply(final PipelineSink sink, final PendingRecords pendingRecords, final List<DataRecord> partitionRecords) {
+        try {
+            jobProgressListener.onProgressUpdated(sink.write("", new ArrayList<>(partitionRecords)));
+            synchronized (pendingRecordsQueue) {
+                pendingRecords.remainingPartitionCount--;
+                ackAppliedRecords();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            applyFailure.compareAndSet(null, ex);
+            synchronized (pendingRecordsQueue) {
+                pendingRecordsQueue.notifyAll();
+            }
+        }
+    }
+    
+    private void ackAppliedRecords() {
+        while (!pendingRecordsQueue.isEmpty() && 0 == pendingRecordsQueue.peek().remainingPartitionCount) {
+            channel.ack(pendingRecordsQueue.poll().records);
+        }
+        pendingRecordsQueue.notifyAll();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitUntilPendingAtMost(final int maxPendingCount) {
+        synchronized (pendingRecordsQueue) {
+            while (pendingRecordsQueue.size() > maxPendingCount && isRunning()) {
+                checkApplyFailure();
+                pendingRecordsQueue.wait(timeoutMillis);
+            }
+        }
+        checkApplyFailure();
+    }
+    
+    private void checkApplyFailure() {
+        RuntimeException ex = applyFailure.get();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    @Override
+    protected void doStop() {
+        sinks.forEach(QuietlyCloser::close);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingRecords {
+        
+        private final List<Record> records;
+        
+        private int remainingPartitionCount;
+    }
+}
@@ -40,6 +40,9 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -189,13 +192,91 @@ public final class PipelineDataSourceSink implements PipelineSink {
             boolean transactionEnabled = dataRecords.size() > 1 && firstTimeRun;
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
+                executeBatchUpdate(connection, dataRecords);
+                connection.commit();
+            } else {
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
             }
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord firstDataRecord = dataRecords.iterator().next();
+        Collection<String> shardingColumns = importerConfig.getShardingColumns(firstDataRecord.getTableName());
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(firstDataRecord, shardingColumns);
+        int[] conditionColumnIndexes = getColumnIndexes(firstDataRecord, conditionColumns);
+        String schemaName = importerConfig.findSchemaName(firstDataRecord.getTableName()).orElse(null);
+        List<DataRecord> sameSQLDataRecords = new ArrayList<>(dataRecords.size());
+        BitSet sameSetColumnIndexes = null;
+        for (DataRecord each : dataRecords) {
+            BitSet setColumnIndexes = getSetColumnIndexes(each);
+            if (!setColumnIndexes.equals(sameSetColumnIndexes) && !sameSQLDataRecords.isEmpty()) {
+                executeBatchUpdate(connection, importSQLBuilder.buildUpdateSQL(schemaName, sameSQLDataRecords.get(0), conditionColumns),
+                        sameSQLDataRecords, shardingColumns, conditionColumnIndexes, sameSetColumnIndexes);
+                sameSQLDataRecords.clear();
+            }
+            sameSetColumnIndexes = setColumnIndexes;
+            sameSQLDataRecords.add(each);
+        }
+        executeBatchUpdate(connection, importSQLBuilder.buildUpdateSQL(schemaName, sameSQLDataRecords.get(0), conditionColumns),
+                sameSQLDataRecords, shardingColumns, conditionColumnIndexes, sameSetColumnIndexes);
+    }
+    
+    private int[] getColumnIndexes(final DataRecord dataRecord, final List<Column> columns) {
+        int[] result = new int[columns.size()];
+        int index = 0;
+        for (int i = 0; i < dataRecord.getColumnCount() && index < result.length; i++) {
+            if (dataRecord.getColumn(i) == columns.get(index)) {
+                result[index++] = i;
+            }
+        }
+        return result;
+    }
+    
+    private BitSet getSetColumnIndexes(final DataRecord dataRecord) {
+        BitSet result = new BitSet(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.getColumn(i).isUpdated()) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords,
+                                    final Collection<String> shardingColumns, final int[] conditionColumnIndexes, final BitSet setColumnIndexes) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+                setUpdateParameters(preparedStatement, each, shardingColumns, conditionColumnIndexes, setColumnIndexes);
+                preparedStatement.addBatch();
             }
-            if (transactionEnabled) {
-                connection.commit();
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("Update failed, update count: {}, sql: {}, data record: {}", updateCounts[i], sql, dataRecords.get(i));
+                }
             }
+        } catch (final SQLException ex) {
+            log.error("execute batch update failed, sql: {}, data records count: {}, error message: {}", sql, dataRecords.size(), ex.getMessage());
+            throw ex;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord,
+                                     final Collection<String> shardingColumns, final int[] conditionColumnIndexes, final BitSet setColumnIndexes) throws SQLException {
+        int parameterIndex = 1;
+        for (int i = setColumnIndexes.nextSetBit(0); i >= 0; i = setColumnIndexes.nextSetBit(i + 1)) {
+            preparedStatement.setObject(parameterIndex++, dataRecord.getColumn(i).getValue());
+        }
+        for (int each : conditionColumnIndexes) {
+            Column keyColumn = dataRecord.getColumn(each);
+            preparedStatement.setObject(parameterIndex++, shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue() ? keyColumn.getValue() : keyColumn.getOldValue());
         }
     }
     
@@ -206,18 +287,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, shardingColumns, conditionColumns, setColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -233,6 +303,22 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void setUpdateParameters(final PreparedStatement preparedStatement,
+                                     final Collection<String> shardingColumns, final List<Column> conditionColumns, final List<Column> setColumns) throws SQLException {
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             boolean transactionEnabled = dataRecords.size() > 1;
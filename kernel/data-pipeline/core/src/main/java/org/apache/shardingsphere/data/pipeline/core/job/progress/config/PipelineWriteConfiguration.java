@@ -34,5 +34,17 @@ public final class PipelineWriteConfiguration {
     
     private final Integer batchSize;
     
+    private final Integer incrementalPartitions;
+    
+    private final Integer maxInflightAcks;
+    
     private final AlgorithmConfiguration rateLimiter;
+    
+    public PipelineWriteConfiguration(final Integer workerThread, final Integer batchSize, final Integer incrementalPartitions, final AlgorithmConfiguration rateLimiter) {
+        this(workerThread, batchSize, incrementalPartitions, null, rateLimiter);
+    }
+    
+    public PipelineWriteConfiguration(final Integer workerThread, final Integer batchSize, final AlgorithmConfiguration rateLimiter) {
+        this(workerThread, batchSize, null, null, rateLimiter);
+    }
 }
@@ -33,5 +33,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     
     private int batchSize = 1000;
     
+    private int incrementalPartitions;
+    
+    private int maxInflightAcks = 1024;
+    
     private YamlAlgorithmConfiguration rateLimiter;
 }
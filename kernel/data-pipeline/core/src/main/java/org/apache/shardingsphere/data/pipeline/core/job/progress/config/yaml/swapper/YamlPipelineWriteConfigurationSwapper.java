@@ -37,6 +37,12 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
         YamlPipelineWriteConfiguration result = new YamlPipelineWriteConfiguration();
         result.setWorkerThread(data.getWorkerThread());
         result.setBatchSize(data.getBatchSize());
+        if (null != data.getIncrementalPartitions()) {
+            result.setIncrementalPartitions(data.getIncrementalPartitions());
+        }
+        if (null != data.getMaxInflightAcks()) {
+            result.setMaxInflightAcks(data.getMaxInflightAcks());
+        }
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
         return result;
     }
@@ -45,6 +51,7 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
     public PipelineWriteConfiguration swapToObject(final YamlPipelineWriteConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getIncrementalPartitions(), yamlConfig.getMaxInflightAcks(),
+                        algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
     }
 }
@@ -37,6 +37,10 @@ public final class InventoryDataSparsenessCalculator {
     
     private static final BigDecimal MULTIPLE_THRESHOLD = new BigDecimal("1.50");
     
+    private static final long MIN_SHARDING_SIZE = EXACT_SPLITTING_RECORDS_COUNT_THRESHOLD / 10L;
+    
+    private static final int SPLITS_PER_WORKER_THREAD = 4;
+    
     /**
      * Is integer unique key data sparse.
      *
@@ -46,11 +50,8 @@ public final class InventoryDataSparsenessCalculator {
      */
     public static boolean isIntegerUniqueKeyDataSparse(final long tableRecordsCount, final Range<BigInteger> uniqueKeyValuesRange) {
         boolean result = false;
-        BigInteger lowerBound = uniqueKeyValuesRange.getLowerBound();
-        BigInteger upperBound = uniqueKeyValuesRange.getUpperBound();
-        if (tableRecordsCount >= EXACT_SPLITTING_RECORDS_COUNT_THRESHOLD && null != lowerBound && null != upperBound) {
-            BigDecimal multiple = new BigDecimal(upperBound).subtract(new BigDecimal(lowerBound)).add(BigDecimal.ONE)
-                    .divide(BigDecimal.valueOf(tableRecordsCount), 2, RoundingMode.HALF_UP);
+        if (tableRecordsCount >= EXACT_SPLITTING_RECORDS_COUNT_THRESHOLD && null != uniqueKeyValuesRange.getLowerBound() && null != uniqueKeyValuesRange.getUpperBound()) {
+            BigDecimal multiple = getMultiple(tableRecordsCount, uniqueKeyValuesRange);
             if (multiple.compareTo(MULTIPLE_THRESHOLD) >= 0) {
                 log.info("Table is sparse for integer unique key, table records count: {}, unique key values range: {}, multiple: {}", tableRecordsCount, uniqueKeyValuesRange, multiple);
                 result = true;
@@ -58,4 +59,54 @@ public final class InventoryDataSparsenessCalculator {
         }
         return result;
     }
+    
+    /**
+     * Calculate sharding size.
+     * 
+     * <p>Large table is split into at least several splits per dumper worker thread. Every split is an inventory task whose position is persisted,
+     * and dumper worker threads take splits from a shared queue, so threads which finish early take the remaining splits instead of idling behind a few huge ones.</p>
+     *
+     * @param tableRecordsCount table records count
+     * @param shardingSize configured sharding size
+     * @param workerThread dumper worker thread count
+     * @return sharding size
+     */
+    public static int calculateShardingSize(final long tableRecordsCount, final int shardingSize, final int workerThread) {
+        if (tableRecordsCount < EXACT_SPLITTING_RECORDS_COUNT_THRESHOLD || workerThread <= 1) {
+            return shardingSize;
+        }
+        long minSplitCount = (long) workerThread * SPLITS_PER_WORKER_THREAD;
+        long result = Math.min(shardingSize, Math.max(MIN_SHARDING_SIZE, (tableRecordsCount + minSplitCount - 1L) / minSplitCount));
+        if (result < shardingSize) {
+            log.info("Reduce sharding size from {} to {}, table records count: {}, worker thread: {}", shardingSize, result, tableRecordsCount, workerThread);
+        }
+        return (int) result;
+    }
+    
+    /**
+     * Calculate sharding size of integer unique key which is split by estimated positions.
+     * 
+     * <p>Estimated positions split unique key values range evenly, a split may contain up to range multiple times of sharding size records if unique key values are not evenly distributed,
+     * so sharding size is divided by the multiple to keep the largest split within sharding size.</p>
+     *
+     * @param tableRecordsCount table records count
+     * @param uniqueKeyValuesRange unique key values range
+     * @param shardingSize sharding size
+     * @return sharding size
+     */
+    public static int calculateIntegerUniqueKeyShardingSize(final long tableRecordsCount, final Range<BigInteger> uniqueKeyValuesRange, final int shardingSize) {
+        if (tableRecordsCount < EXACT_SPLITTING_RECORDS_COUNT_THRESHOLD || null == uniqueKeyValuesRange.getLowerBound() || null == uniqueKeyValuesRange.getUpperBound()) {
+            return shardingSize;
+        }
+        BigDecimal multiple = getMultiple(tableRecordsCount, uniqueKeyValuesRange);
+        if (multiple.compareTo(BigDecimal.ONE) <= 0) {
+            return shardingSize;
+        }
+        return (int) Math.max(Math.min(MIN_SHARDING_SIZE, shardingSize), BigDecimal.valueOf(shardingSize).divide(multiple, 0, RoundingMode.DOWN).longValue());
+    }
+    
+    private static BigDecimal getMultiple(final long tableRecordsCount, final Range<BigInteger> uniqueKeyValuesRange) {
+        return new BigDecimal(uniqueKeyValuesRange.getUpperBound()).subtract(new BigDecimal(uniqueKeyValuesRange.getLowerBound())).add(BigDecimal.ONE)
+                .divide(BigDecimal.valueOf(tableRecordsCount), 2, RoundingMode.HALF_UP);
+    }
 }
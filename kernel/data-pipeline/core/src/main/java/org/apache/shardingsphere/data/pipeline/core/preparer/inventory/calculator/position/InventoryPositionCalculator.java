@@ -78,7 +78,8 @@ public final class InventoryPositionCalculator {
         if (InventoryDataSparsenessCalculator.isIntegerUniqueKeyDataSparse(tableRecordsCount, uniqueKeyValuesRange)) {
             return InventoryPositionExactCalculator.getPositions(qualifiedTable, uniqueKey, shardingSize, dataSource, new IntegerPositionHandler());
         }
-        return InventoryPositionEstimatedCalculator.getIntegerPositions(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+        return InventoryPositionEstimatedCalculator.getIntegerPositions(tableRecordsCount, uniqueKeyValuesRange,
+                InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(tableRecordsCount, uniqueKeyValuesRange, shardingSize));
     }
     
     private List<IngestPosition> getStringPositions() {
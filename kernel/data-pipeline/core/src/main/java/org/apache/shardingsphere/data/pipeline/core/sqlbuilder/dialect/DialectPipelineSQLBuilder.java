@@ -82,6 +82,19 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build range digest SQL.
+     *
+     * <p>The first column of built SQL is records count, and the second column is order independent digest of records.</p>
+     *
+     * @param rangeQuerySQL range query SQL
+     * @param columnNames column names
+     * @return built SQL
+     */
+    default Optional<String> buildRangeDigestSQL(final String rangeQuerySQL, final Collection<String> columnNames) {
+        return Optional.empty();
+    }
+    
     /**
      * Build split by unique key subquery clause.
      *
@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline data consistency calculate SQL builder.
@@ -34,9 +38,12 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
     
     private final PipelineSQLSegmentBuilder sqlSegmentBuilder;
     
+    private final PipelineInventoryCalculateSQLBuilder inventoryCalculateSQLBuilder;
+    
     public PipelineDataConsistencyCalculateSQLBuilder(final DatabaseType databaseType) {
         dialectSQLBuilder = DatabaseTypedSPILoader.getService(DialectPipelineSQLBuilder.class, databaseType);
         sqlSegmentBuilder = new PipelineSQLSegmentBuilder(databaseType);
+        inventoryCalculateSQLBuilder = new PipelineInventoryCalculateSQLBuilder(databaseType);
     }
     
     /**
@@ -50,4 +57,32 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build range upper bound SQL.
+     *
+     * @param qualifiedTable qualified table
+     * @param uniqueKey unique key
+     * @param range range
+     * @return built SQL
+     */
+    public String buildRangeUpperBoundSQL(final QualifiedTable qualifiedTable, final String uniqueKey, final Range<?> range) {
+        String rangeQuerySQL = inventoryCalculateSQLBuilder.buildRangeQueryOrderingSQL(
+                qualifiedTable, Collections.singleton(uniqueKey), Collections.singletonList(uniqueKey), range, true, Collections.emptyList());
+        return String.format("SELECT MAX(%s) FROM (%s) t", sqlSegmentBuilder.getEscapedIdentifier(uniqueKey), rangeQuerySQL);
+    }
+    
+    /**
+     * Build range digest SQL.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @param range range
+     * @return built SQL
+     */
+    public Optional<String> buildRangeDigestSQL(final QualifiedTable qualifiedTable, final List<String> columnNames, final String uniqueKey, final Range<?> range) {
+        String rangeQuerySQL = inventoryCalculateSQLBuilder.buildRangeQueryOrderingSQL(qualifiedTable, columnNames, Collections.singletonList(uniqueKey), range, false, Collections.emptyList());
+        return dialectSQLBuilder.buildRangeDigestSQL(rangeQuerySQL, columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.toList()));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertCapacity() {
+        assertThat(new RingBufferPipelineChannel(0, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(1));
+        assertThat(new RingBufferPipelineChannel(4, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(4));
+        assertThat(new RingBufferPipelineChannel(5, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(8));
+    }
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.getOccupiedSlotsCount(), is(1));
+        assertThat(channel.fetch(10, 0L), is(records));
+        assertThat(channel.getOccupiedSlotsCount(), is(0));
+    }
+    
+    @Test
+    void assertFetchDrainsMultipleSlots() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+            channel.push(records);
+            expected.addAll(records);
+        }
+        assertThat(channel.getOccupiedSlotsCount(), is(3));
+        assertThat(channel.fetch(2, 100L), is(expected.subList(0, 2)));
+        assertThat(channel.fetch(2, 0L), is(expected.subList(2, 3)));
+    }
+    
+    @Test
+    void assertPushWhenBufferIsFull() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        Thread thread = new Thread(() -> channel.push(records));
+        thread.start();
+        assertThat(channel.fetch(1, 100L), is(records));
+        thread.join(1000L);
+        assertThat(channel.fetch(1, 1000L), is(records));
+    }
+    
+    @Test
+    void assertFetchWakenUpByPush() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        Thread thread = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50L));
+            channel.push(records);
+        });
+        long startMillis = System.currentTimeMillis();
+        thread.start();
+        assertThat(channel.fetch(1, 60000L), is(records));
+        assertThat(System.currentTimeMillis() - startMillis < 30000L, is(true));
+        thread.join(1000L);
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(4, RingBufferWaitStrategy.PARK, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
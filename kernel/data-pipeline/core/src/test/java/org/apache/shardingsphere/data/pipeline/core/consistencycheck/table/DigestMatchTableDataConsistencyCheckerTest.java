@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangeDigest;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.UniqueKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DigestMatchTableDataConsistencyCheckerTest {
+    
+    private static final String FIRST_UPPER_BOUND_SQL = "SELECT MAX(id) FROM (SELECT id FROM foo_tbl ORDER BY id ASC LIMIT ?) t";
+    
+    private static final String SECOND_UPPER_BOUND_SQL = "SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) t";
+    
+    private static final String FIRST_DIGEST_SQL = "SELECT COUNT(1), DIGEST(id,foo_col) FROM (SELECT id,foo_col FROM foo_tbl WHERE id<=? ORDER BY id ASC) t";
+    
+    private static final String SECOND_DIGEST_SQL = "SELECT COUNT(1), DIGEST(id,foo_col) FROM (SELECT id,foo_col FROM foo_tbl WHERE id>? ORDER BY id ASC) t";
+    
+    private static final String FIRST_RECORDS_SQL = "SELECT id,foo_col FROM foo_tbl WHERE id<=? ORDER BY id ASC LIMIT ?";
+    
+    @Mock
+    private PipelineDataSource sourceDataSource;
+    
+    @Mock
+    private PipelineDataSource targetDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection sourceConnection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection targetConnection;
+    
+    private ConsistencyCheckJobItemProgressContext progressContext;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        when(sourceDataSource.getDatabaseType()).thenReturn(databaseType);
+        when(sourceDataSource.getConnection()).thenReturn(sourceConnection);
+        when(targetDataSource.getDatabaseType()).thenReturn(databaseType);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        progressContext.getTableCheckRangePositions().add(new TableCheckRangePosition(0, "foo_ds.foo_tbl", "foo_tbl", UniqueKeyIngestPosition.ofUnsplit(), UniqueKeyIngestPosition.ofUnsplit(), null));
+        PreparedStatement firstUpperBoundStatement = mockQueryStatement();
+        when(firstUpperBoundStatement.executeQuery().next()).thenReturn(true);
+        when(firstUpperBoundStatement.executeQuery().getObject(1)).thenReturn(10);
+        when(sourceConnection.prepareStatement(FIRST_UPPER_BOUND_SQL)).thenReturn(firstUpperBoundStatement);
+        PreparedStatement secondUpperBoundStatement = mockQueryStatement();
+        when(secondUpperBoundStatement.executeQuery().next()).thenReturn(true);
+        when(sourceConnection.prepareStatement(SECOND_UPPER_BOUND_SQL)).thenReturn(secondUpperBoundStatement);
+        PreparedStatement firstSourceDigestStatement = mockDigestStatement(10, "foo_digest");
+        when(sourceConnection.prepareStatement(FIRST_DIGEST_SQL)).thenReturn(firstSourceDigestStatement);
+        PreparedStatement secondSourceDigestStatement = mockDigestStatement(0, null);
+        when(sourceConnection.prepareStatement(SECOND_DIGEST_SQL)).thenReturn(secondSourceDigestStatement);
+        PreparedStatement secondTargetDigestStatement = mockDigestStatement(0, null);
+        when(targetConnection.prepareStatement(SECOND_DIGEST_SQL)).thenReturn(secondTargetDigestStatement);
+    }
+    
+    @Test
+    void assertCheckWithMatchedDigests() throws SQLException {
+        PreparedStatement firstTargetDigestStatement = mockDigestStatement(10, "foo_digest");
+        when(targetConnection.prepareStatement(FIRST_DIGEST_SQL)).thenReturn(firstTargetDigestStatement);
+        assertTrue(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        TableCheckRangePosition actual = progressContext.getTableCheckRangePositions().get(0);
+        assertThat(actual.getSourcePosition(), is(10));
+        assertThat(actual.getTargetPosition(), is(10));
+        assertTrue(actual.isFinished());
+        assertTrue(actual.getMatched());
+        assertTrue(actual.getMismatchedRangeDigests().isEmpty());
+    }
+    
+    @Test
+    void assertCheckWithMismatchedDigestsAndMatchedRecords() throws SQLException {
+        PreparedStatement firstTargetDigestStatement = mockDigestStatement(10, "bar_digest");
+        when(targetConnection.prepareStatement(FIRST_DIGEST_SQL)).thenReturn(firstTargetDigestStatement);
+        assertTrue(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        assertTrue(progressContext.getTableCheckRangePositions().get(0).getMismatchedRangeDigests().isEmpty());
+    }
+    
+    @Test
+    void assertCheckWithMismatchedDigestsAndMismatchedRecords() throws SQLException {
+        PreparedStatement firstTargetDigestStatement = mockDigestStatement(9, "bar_digest");
+        when(targetConnection.prepareStatement(FIRST_DIGEST_SQL)).thenReturn(firstTargetDigestStatement);
+        PreparedStatement recordsStatement = mockQueryStatement();
+        when(recordsStatement.executeQuery().next()).thenReturn(true, false);
+        when(sourceConnection.prepareStatement(FIRST_RECORDS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(recordsStatement);
+        assertFalse(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        TableCheckRangePosition actual = progressContext.getTableCheckRangePositions().get(0);
+        assertTrue(actual.isFinished());
+        assertFalse(actual.getMatched());
+        assertThat(actual.getMismatchedRangeDigests().size(), is(1));
+        TableCheckRangeDigest actualRangeDigest = actual.getMismatchedRangeDigests().get(0);
+        assertThat(actualRangeDigest.getUpperBound(), is(10));
+        assertThat(actualRangeDigest.getSourceRecordsCount(), is(10));
+        assertThat(actualRangeDigest.getSourceDigest(), is("foo_digest"));
+        assertThat(actualRangeDigest.getTargetRecordsCount(), is(9));
+        assertThat(actualRangeDigest.getTargetDigest(), is("bar_digest"));
+    }
+    
+    private TableInventoryChecker buildTableInventoryChecker() {
+        QualifiedTable table = new QualifiedTable(null, "foo_tbl");
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table, Arrays.asList("id", "foo_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), null, progressContext);
+        DigestMatchTableDataConsistencyChecker checker = new DigestMatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        return checker.buildTableInventoryChecker(param);
+    }
+    
+    private PreparedStatement mockDigestStatement(final int recordsCount, final String digest) throws SQLException {
+        PreparedStatement result = mockQueryStatement();
+        when(result.executeQuery().getInt(1)).thenReturn(recordsCount);
+        when(result.executeQuery().getString(2)).thenReturn(digest);
+        return result;
+    }
+    
+    private PreparedStatement mockQueryStatement() throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class, Answers.RETURNS_DEEP_STUBS);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
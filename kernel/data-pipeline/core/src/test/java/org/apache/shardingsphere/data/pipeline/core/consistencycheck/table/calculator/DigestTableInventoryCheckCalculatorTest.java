@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DigestTableInventoryCheckCalculatorTest {
+    
+    private TableInventoryCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSource pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        parameter = new TableInventoryCalculateParameter(pipelineDataSource, new QualifiedTable(null, "foo_tbl"), Arrays.asList("id", "foo_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), QueryType.RANGE_QUERY, null);
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    void assertCalculateChunkUpperBound() throws SQLException {
+        parameter.setRange(Range.openClosed(1, null));
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        when(preparedStatement.executeQuery().next()).thenReturn(true);
+        when(preparedStatement.executeQuery().getObject(1)).thenReturn(1000);
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) t")).thenReturn(preparedStatement);
+        assertThat(new DigestTableInventoryCheckCalculator().calculateChunkUpperBound(parameter, 100), is(Optional.of(1000)));
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setInt(2, 100);
+    }
+    
+    @Test
+    void assertCalculateChunkUpperBoundWithoutRecords() throws SQLException {
+        parameter.setRange(Range.closed(null, null));
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        when(preparedStatement.executeQuery().next()).thenReturn(true);
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl ORDER BY id ASC LIMIT ?) t")).thenReturn(preparedStatement);
+        assertFalse(new DigestTableInventoryCheckCalculator().calculateChunkUpperBound(parameter, 100).isPresent());
+        verify(preparedStatement).setInt(1, 100);
+    }
+    
+    @Test
+    void assertCalculateRangeDigest() throws SQLException {
+        parameter.setRange(Range.openClosed(1, 1000));
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        when(preparedStatement.executeQuery().getInt(1)).thenReturn(10);
+        when(preparedStatement.executeQuery().getString(2)).thenReturn("foo_digest");
+        when(connection.prepareStatement("SELECT COUNT(1), DIGEST(id,foo_col) FROM (SELECT id,foo_col FROM foo_tbl WHERE id>? AND id<=? ORDER BY id ASC) t")).thenReturn(preparedStatement);
+        assertThat(new DigestTableInventoryCheckCalculator().calculateRangeDigest(parameter), is(new DigestTableInventoryCheckCalculatedResult(10, "foo_digest")));
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 1000);
+    }
+    
+    private PreparedStatement mockPreparedStatement() throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        parameter.setRange(Range.closed(null, null));
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException(""));
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> new DigestTableInventoryCheckCalculator().calculateRangeDigest(parameter));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedChannelConsumerImporterTest {
+    
+    @Test
+    void assertApplySameKeyRecordsInOrder() {
+        DataRecord insertRecord1 = createDataRecord(PipelineSQLOperationType.INSERT, 1);
+        DataRecord insertRecord2 = createDataRecord(PipelineSQLOperationType.INSERT, 2);
+        DataRecord updateRecord1 = createDataRecord(PipelineSQLOperationType.UPDATE, 1);
+        DataRecord deleteRecord2 = createDataRecord(PipelineSQLOperationType.DELETE, 2);
+        List<Record> records = Arrays.asList(insertRecord1, insertRecord2, updateRecord1, deleteRecord2, new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        Map<Object, List<Record>> writtenRecords = new ConcurrentHashMap<>();
+        Map<Object, PipelineSink> writtenSinks = new ConcurrentHashMap<>();
+        PipelineSink sink0 = createSink(writtenRecords, writtenSinks);
+        PipelineSink sink1 = createSink(writtenRecords, writtenSinks);
+        new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(sink0, sink1), mock(PipelineJobProgressListener.class)).run();
+        assertThat(writtenRecords.get(insertRecord1.getKey()), is(Arrays.asList(insertRecord1, updateRecord1)));
+        assertThat(writtenRecords.get(insertRecord2.getKey()).size(), is(1));
+        assertThat(writtenSinks.get(insertRecord1.getKey()), is(0 == Math.floorMod(insertRecord1.getKey().hashCode(), 2) ? sink0 : sink1));
+        assertThat(writtenSinks.get(insertRecord2.getKey()), is(0 == Math.floorMod(insertRecord2.getKey().hashCode(), 2) ? sink0 : sink1));
+        verify(channel).ack(records);
+    }
+    
+    private PipelineSink createSink(final Map<Object, List<Record>> writtenRecords, final Map<Object, PipelineSink> writtenSinks) {
+        PipelineSink result = mock(PipelineSink.class);
+        when(result.write(any(), any())).thenAnswer(invocation -> {
+            Collection<Record> partitionRecords = invocation.getArgument(1);
+            for (Record each : partitionRecords) {
+                writtenRecords.computeIfAbsent(((DataRecord) each).getKey(), key -> Collections.synchronizedList(new LinkedList<>())).add(each);
+                writtenSinks.put(((DataRecord) each).getKey(), result);
+            }
+            return new PipelineJobUpdateProgress(partitionRecords.size());
+        });
+        return result;
+    }
+    
+    @Test
+    void assertApplyRecordsWithUpdatedUniqueKeyInImporterThread() {
+        DataRecord insertRecord = createDataRecord(PipelineSQLOperationType.INSERT, 1);
+        DataRecord updateRecord = new DataRecord(PipelineSQLOperationType.UPDATE, "t_order", new IngestPlaceholderPosition(), 2);
+        updateRecord.addColumn(new NormalColumn("order_id", 1, 3, true, true));
+        updateRecord.addColumn(new NormalColumn("status", "ok", "ok", false, false));
+        List<Record> records = Arrays.asList(insertRecord, updateRecord, new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(any(), any())).thenReturn(new PipelineJobUpdateProgress(1));
+        new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(sink, mock(PipelineSink.class)), mock(PipelineJobProgressListener.class)).run();
+        verify(sink).write("", records);
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    void assertApplyFailed() {
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1), new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(any(), any())).thenThrow(new PipelineImporterJobWriteException(new SQLException("")));
+        PartitionedChannelConsumerImporter importer = new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(sink, sink), mock(PipelineJobProgressListener.class));
+        assertThrows(PipelineImporterJobWriteException.class, importer::run);
+        verify(channel, never()).ack(any());
+    }
+    
+    @Test
+    void assertStopCloseAllSinks() throws IOException {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(Collections.singletonList(new FinishedRecord(new IngestFinishedPosition())));
+        PipelineSink sink0 = mock(PipelineSink.class);
+        PipelineSink sink1 = mock(PipelineSink.class);
+        PartitionedChannelConsumerImporter importer = new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(sink0, sink1), mock(PipelineJobProgressListener.class));
+        importer.run();
+        importer.stop();
+        verify(sink0).close();
+        verify(sink1).close();
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int orderId) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", PipelineSQLOperationType.INSERT == type ? null : orderId, PipelineSQLOperationType.DELETE == type ? null : orderId, false, true));
+        result.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.DELETE == type ? null : "ok", true, false));
+        return result;
+    }
+}
@@ -46,6 +46,8 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("500"));
         assertThat(actual.getWrite().getWorkerThread(), is(20));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getIncrementalPartitions(), is(0));
+        assertThat(actual.getWrite().getMaxInflightAcks(), is(1024));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
@@ -78,7 +80,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
     void assertSwapToYamlConfiguration() {
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
-        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
+        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, 4, 256,
                 new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
@@ -91,6 +93,8 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getIncrementalPartitions(), is(4));
+        assertThat(actual.getWrite().getMaxInflightAcks(), is(256));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -37,6 +39,24 @@ class InventoryDataSparsenessCalculatorTest {
         assertTrue(InventoryDataSparsenessCalculator.isIntegerUniqueKeyDataSparse(1000000L, createRange(1L, 1500000L)));
     }
     
+    @Test
+    void assertCalculateShardingSize() {
+        assertThat(InventoryDataSparsenessCalculator.calculateShardingSize(999999L, 10000000, 20), is(10000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateShardingSize(100000000L, 10000000, 1), is(10000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateShardingSize(100000000L, 10000000, 20), is(1250000));
+        assertThat(InventoryDataSparsenessCalculator.calculateShardingSize(1000000L, 10000000, 20), is(100000));
+        assertThat(InventoryDataSparsenessCalculator.calculateShardingSize(2000000000L, 10000000, 20), is(10000000));
+    }
+    
+    @Test
+    void assertCalculateIntegerUniqueKeyShardingSize() {
+        assertThat(InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(999999L, createRange(1L, 1400000L), 10000000), is(10000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(2000000000L, createRange(null, 2000000000L), 10000000), is(10000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(2000000000L, createRange(1L, 2000000000L), 10000000), is(10000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(2000000000L, createRange(1L, 2500000000L), 10000000), is(8000000));
+        assertThat(InventoryDataSparsenessCalculator.calculateIntegerUniqueKeyShardingSize(2000000000L, createRange(1L, 2000000000000L), 10000000), is(100000));
+    }
+    
     private Range<BigInteger> createRange(final Long lowerBound, final Long upperBound) {
         return Range.closed(null == lowerBound ? null : BigInteger.valueOf(lowerBound), null == upperBound ? null : BigInteger.valueOf(upperBound));
     }
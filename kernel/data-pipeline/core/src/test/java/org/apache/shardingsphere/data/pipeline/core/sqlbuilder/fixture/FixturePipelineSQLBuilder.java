@@ -36,6 +36,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeDigestSQL(final String rangeQuerySQL, final Collection<String> columnNames) {
+        return Optional.of(String.format("SELECT COUNT(1), DIGEST(%s) FROM (%s) t", String.join(",", columnNames), rangeQuerySQL));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return "";
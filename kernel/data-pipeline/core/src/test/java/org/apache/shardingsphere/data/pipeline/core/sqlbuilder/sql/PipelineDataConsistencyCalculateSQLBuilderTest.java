@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -36,4 +38,16 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildRangeUpperBoundSQL() {
+        String actual = sqlBuilder.buildRangeUpperBoundSQL(new QualifiedTable("foo_schema", "foo_tbl"), "id", Range.openClosed(1, 10));
+        assertThat(actual, is("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? AND id<=? ORDER BY id ASC LIMIT ?) t"));
+    }
+    
+    @Test
+    void assertBuildRangeDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeDigestSQL(new QualifiedTable("foo_schema", "foo_tbl"), Arrays.asList("id", "foo_col"), "id", Range.closed(1, null));
+        assertThat(actual, is(Optional.of("SELECT COUNT(1), DIGEST(id,foo_col) FROM (SELECT id,foo_col FROM foo_tbl WHERE id>=? ORDER BY id ASC) t")));
+    }
 }
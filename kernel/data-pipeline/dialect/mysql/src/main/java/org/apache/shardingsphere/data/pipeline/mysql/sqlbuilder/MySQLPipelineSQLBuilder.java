@@ -31,6 +31,8 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * MySQL pipeline SQL builder.
@@ -64,6 +66,13 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeDigestSQL(final String rangeQuerySQL, final Collection<String> columnNames) {
+        String digestColumns = Stream.concat(columnNames.stream(), columnNames.stream().map(each -> String.format("ISNULL(%s)", each))).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(1) AS cnt, BIT_XOR(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',%s)), 1, 16), 16, 10) AS UNSIGNED)) AS digest FROM (%s) t",
+                digestColumns, rangeQuerySQL));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return hasLowerBound
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -83,6 +84,14 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildRangeDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeDigestSQL("SELECT id,foo_col FROM foo_tbl WHERE id>?", Arrays.asList("id", "foo_col"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1) AS cnt, BIT_XOR(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',id,foo_col,ISNULL(id),ISNULL(foo_col))), 1, 16), 16, 10) AS UNSIGNED)) AS digest"
+                + " FROM (SELECT id,foo_col FROM foo_tbl WHERE id>?) t"));
+    }
+    
     @Test
     void assertBuildSplitByUniqueKeyRangedSubqueryClause() {
         assertThat(sqlBuilder.buildSplitByUniqueKeyRangedSubqueryClause("foo_tbl", "id", true),
@@ -62,6 +62,12 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeDigestSQL(final String rangeQuerySQL, final Collection<String> columnNames) {
+        return Optional.of(String.format("SELECT COUNT(1) AS cnt, SUM(('x' || SUBSTR(MD5(CAST(ROW(%s) AS TEXT)), 1, 16))::BIT(64)::BIGINT::NUMERIC) AS digest FROM (%s) t",
+                String.join(",", columnNames), rangeQuerySQL));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return hasLowerBound
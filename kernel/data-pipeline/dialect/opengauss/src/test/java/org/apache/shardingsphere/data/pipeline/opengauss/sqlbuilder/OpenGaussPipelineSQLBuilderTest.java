@@ -81,6 +81,14 @@ class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT reltuples::integer FROM pg_class WHERE oid='foo_tbl'::regclass::oid;"));
     }
     
+    @Test
+    void assertBuildRangeDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeDigestSQL("SELECT id,foo_col FROM foo_tbl WHERE id>?", Arrays.asList("id", "foo_col"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1) AS cnt, SUM(('x' || SUBSTR(MD5(CAST(ROW(id,foo_col) AS TEXT)), 1, 16))::BIT(64)::BIGINT::NUMERIC) AS digest"
+                + " FROM (SELECT id,foo_col FROM foo_tbl WHERE id>?) t"));
+    }
+    
     @Test
     void assertBuildSplitByUniqueKeyRangedSubqueryClause() {
         assertThat(sqlBuilder.buildSplitByUniqueKeyRangedSubqueryClause("foo_tbl", "id", true),
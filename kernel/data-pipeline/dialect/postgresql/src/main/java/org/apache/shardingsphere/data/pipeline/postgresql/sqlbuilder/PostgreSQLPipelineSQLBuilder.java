@@ -78,6 +78,12 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(String.format("SELECT pg_catalog.pg_checksum_table('%s', true)", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeDigestSQL(final String rangeQuerySQL, final Collection<String> columnNames) {
+        return Optional.of(String.format("SELECT COUNT(1) AS cnt, SUM(('x' || SUBSTR(MD5(CAST(ROW(%s) AS TEXT)), 1, 16))::BIT(64)::BIGINT::NUMERIC) AS digest FROM (%s) t",
+                String.join(",", columnNames), rangeQuerySQL));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return hasLowerBound
@@ -41,6 +41,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -113,6 +114,14 @@ class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT pg_catalog.pg_checksum_table('foo_tbl', true)"));
     }
     
+    @Test
+    void assertBuildRangeDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeDigestSQL("SELECT id,foo_col FROM foo_tbl WHERE id>?", Arrays.asList("id", "foo_col"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1) AS cnt, SUM(('x' || SUBSTR(MD5(CAST(ROW(id,foo_col) AS TEXT)), 1, 16))::BIT(64)::BIGINT::NUMERIC) AS digest"
+                + " FROM (SELECT id,foo_col FROM foo_tbl WHERE id>?) t"));
+    }
+    
     @Test
     void assertBuildSplitByUniqueKeyRangedSubqueryClause() {
         assertThat(sqlBuilder.buildSplitByUniqueKeyRangedSubqueryClause("foo_tbl", "id", true),
@@ -76,7 +76,7 @@ class AlterTransmissionRuleExecutorTest {
         when(jobType.getType()).thenReturn(JOB_TYPE);
         TransmissionRuleSegment segment = new TransmissionRuleSegment();
         segment.setReadSegment(new ReadOrWriteSegment(5, 1000, 200, new AlgorithmSegment("READ_LIMITER", PropertiesBuilder.build(new Property("qps", "50")))));
-        segment.setWriteSegment(new ReadOrWriteSegment(3, 500, new AlgorithmSegment("WRITE_LIMITER", PropertiesBuilder.build(new Property("qps", "20")))));
+        segment.setWriteSegment(new ReadOrWriteSegment(3, 500, null, 4, 256, new AlgorithmSegment("WRITE_LIMITER", PropertiesBuilder.build(new Property("qps", "20")))));
         segment.setStreamChannel(new AlgorithmSegment("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "1024"))));
         AlterTransmissionRuleStatement sqlStatement = new AlterTransmissionRuleStatement(JOB_TYPE, segment);
         try (MockedStatic<TypedSPILoader> mockedStatic = mockStatic(TypedSPILoader.class)) {
@@ -93,6 +93,8 @@ class AlterTransmissionRuleExecutorTest {
             assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
             assertThat(actual.getWrite().getWorkerThread(), is(3));
             assertThat(actual.getWrite().getBatchSize(), is(500));
+            assertThat(actual.getWrite().getIncrementalPartitions(), is(4));
+            assertThat(actual.getWrite().getMaxInflightAcks(), is(256));
             assertThat(actual.getWrite().getRateLimiter().getType(), is("WRITE_LIMITER"));
             assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("20"));
             assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
@@ -43,12 +43,14 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.CDCLoginPara
 import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.StartStreamingParameter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.RequestIdUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.metrics.CDCStreamingMetrics;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.LoginType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
@@ -138,10 +140,11 @@ public final class CDCClient implements AutoCloseable {
      */
     public String startStreaming(final StartStreamingParameter parameter) {
         StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder()
-                .setDatabase(parameter.getDatabase()).setFull(parameter.isFull()).addAllSourceSchemaTable(parameter.getSchemaTables()).build();
+                .setDatabase(parameter.getDatabase()).setFull(parameter.isFull()).addAllSourceSchemaTable(parameter.getSchemaTables()).setCompressionType(parameter.getCompressionType()).build();
         String requestId = RequestIdUtils.generateRequestId();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
+        connectionContext.setCompressionType(parameter.getCompressionType());
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.STREAM_DATA);
         connectionContext.getResponseFutureMap().put(requestId, responseFuture);
         channel.writeAndFlush(request);
@@ -151,16 +154,27 @@ public final class CDCClient implements AutoCloseable {
     }
     
     /**
-     * Restart streaming.
+     * Restart streaming with the record compression type of last started streaming.
      *
      * @param streamingId streaming ID
      */
     public void restartStreaming(final String streamingId) {
+        restartStreaming(streamingId, channel.attr(ClientConnectionContext.CONTEXT_KEY).get().getCompressionType());
+    }
+    
+    /**
+     * Restart streaming.
+     *
+     * @param streamingId streaming ID
+     * @param compressionType record compression type
+     */
+    public void restartStreaming(final String streamingId, final RecordCompressionType compressionType) {
         String requestId = RequestIdUtils.generateRequestId();
-        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).build();
+        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).setCompressionType(compressionType).build();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.START_STREAMING).setStartStreamingRequestBody(body).build();
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.START_STREAMING);
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
+        connectionContext.setCompressionType(compressionType);
         connectionContext.getResponseFutureMap().put(requestId, responseFuture);
         channel.writeAndFlush(request);
         responseFuture.waitResponseResult(config.getTimeoutMillis(), connectionContext);
@@ -203,6 +217,15 @@ public final class CDCClient implements AutoCloseable {
         log.info("Drop streaming success, streaming id: {}", streamingId);
     }
     
+    /**
+     * Get streaming metrics.
+     *
+     * @return streaming metrics
+     */
+    public CDCStreamingMetrics getStreamingMetrics() {
+        return channel.attr(ClientConnectionContext.CONTEXT_KEY).get().getStreamingMetrics();
+    }
+    
     @Override
     public void close() {
         if (null != channel) {
@@ -22,6 +22,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.metrics.CDCStreamingMetrics;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
 
 import java.util.Map;
 import java.util.Set;
@@ -43,4 +45,8 @@ public final class ClientConnectionContext {
     private final Set<String> streamingIds = new CopyOnWriteArraySet<>();
     
     private final Map<String, ResponseFuture> responseFutureMap = new ConcurrentHashMap<>();
+    
+    private final CDCStreamingMetrics streamingMetrics = new CDCStreamingMetrics();
+    
+    private volatile RecordCompressionType compressionType = RecordCompressionType.NONE;
 }
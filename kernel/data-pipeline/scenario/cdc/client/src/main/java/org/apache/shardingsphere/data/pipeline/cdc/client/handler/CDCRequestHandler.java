@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.DataRecordResultDecompressUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
@@ -103,13 +104,16 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             responseFuture.ifPresent(future -> future.setResult(response.getStreamDataResult().getStreamingId()));
             connectionContext.getStreamingIds().add(streamDataResult.getStreamingId());
         } else if (response.hasDataRecordResult()) {
-            processDataRecords(ctx, response.getDataRecordResult());
+            processDataRecords(ctx, connectionContext, response);
         }
         responseFuture.ifPresent(ResponseFuture::countDown);
     }
     
-    private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
-        consumer.accept(result.getRecordList());
+    private void processDataRecords(final ChannelHandlerContext ctx, final ClientConnectionContext connectionContext, final CDCResponse response) {
+        DataRecordResult result = response.getDataRecordResult();
+        List<Record> records = DataRecordResultDecompressUtils.getRecords(result);
+        connectionContext.getStreamingMetrics().record(records, response.getSerializedSize());
+        consumer.accept(records);
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
     }
     
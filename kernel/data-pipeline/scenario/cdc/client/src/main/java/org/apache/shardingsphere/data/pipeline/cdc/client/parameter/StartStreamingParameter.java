@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
 
 import java.util.Set;
@@ -35,4 +36,10 @@ public final class StartStreamingParameter {
     private final Set<SchemaTable> schemaTables;
     
     private final boolean full;
+    
+    private final RecordCompressionType compressionType;
+    
+    public StartStreamingParameter(final String database, final Set<SchemaTable> schemaTables, final boolean full) {
+        this(database, schemaTables, full, RecordCompressionType.NONE);
+    }
 }
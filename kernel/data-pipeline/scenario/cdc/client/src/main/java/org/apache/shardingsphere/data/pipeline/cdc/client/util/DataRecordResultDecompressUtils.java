@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Data record result decompress utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordResultDecompressUtils {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private static final int MAX_INFLATED_SIZE = 64 * 1024 * 1024;
+    
+    /**
+     * Get records of data record result.
+     *
+     * <p>Compressed records are inflated up to 64 MB, a larger frame is rejected instead of being fully inflated in memory.</p>
+     *
+     * @param result data record result
+     * @return records
+     */
+    public static List<Record> getRecords(final DataRecordResult result) {
+        return result.hasCompressedRecords() ? decompress(result.getCompressedRecords()) : result.getRecordList();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static List<Record> decompress(final ByteString compressedRecords) {
+        Inflater inflater = new Inflater();
+        try (InflaterInputStream inputStream = new InflaterInputStream(compressedRecords.newInput(), inflater, BUFFER_SIZE)) {
+            CodedInputStream codedInputStream = CodedInputStream.newInstance(inputStream);
+            codedInputStream.setSizeLimit(MAX_INFLATED_SIZE);
+            return DataRecordResult.parseFrom(codedInputStream).getRecordList();
+        } finally {
+            inflater.end();
+        }
+    }
+}
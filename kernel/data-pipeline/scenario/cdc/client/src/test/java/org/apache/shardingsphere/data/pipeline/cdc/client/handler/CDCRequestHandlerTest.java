@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.ByteString;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -44,8 +45,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -172,6 +175,22 @@ class CDCRequestHandlerTest {
         assertThat(ackRequest.getAckStreamingRequestBody().getAckId(), is("ack_1"));
     }
     
+    @Test
+    void assertHandleCompressedDataRecordResult() throws IOException {
+        ClientConnectionContext connectionContext = new ClientConnectionContext();
+        Channel channel = mockChannel(connectionContext);
+        List<Record> expectedRecords = DataRecordResult.newBuilder().addRecord(Record.newBuilder().setTransactionCommitMillis(1L).build()).build().getRecordList();
+        ByteString.Output compressedRecords = ByteString.newOutput();
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressedRecords)) {
+            DataRecordResult.newBuilder().addAllRecord(expectedRecords).build().writeTo(outputStream);
+        }
+        DataRecordResult recordResult = DataRecordResult.newBuilder().setAckId("ack_1").setCompressedRecords(compressedRecords.toByteString()).build();
+        handler.channelRead(mockChannelHandlerContext(channel), CDCResponse.newBuilder().setRequestId("foo_req").setStatus(Status.SUCCEED).setDataRecordResult(recordResult).build());
+        verify(consumer).accept(expectedRecords);
+        assertThat(connectionContext.getStreamingMetrics().getFramesCount(), is(1L));
+        assertThat(connectionContext.getStreamingMetrics().getRecordsCount(), is(1L));
+    }
+    
     @Test
     void assertHandleSucceedWithoutPayload() {
         ClientConnectionContext connectionContext = new ClientConnectionContext();
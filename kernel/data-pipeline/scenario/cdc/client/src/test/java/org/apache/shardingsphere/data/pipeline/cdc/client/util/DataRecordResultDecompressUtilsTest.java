@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DataRecordResultDecompressUtilsTest {
+    
+    @Test
+    void assertGetUncompressedRecords() {
+        List<Record> expected = Collections.singletonList(Record.newBuilder().setTransactionCommitMillis(1L).build());
+        assertThat(DataRecordResultDecompressUtils.getRecords(DataRecordResult.newBuilder().addAllRecord(expected).build()), is(expected));
+    }
+    
+    @Test
+    void assertGetCompressedRecords() throws IOException {
+        List<Record> expected = Collections.singletonList(Record.newBuilder().setTransactionCommitMillis(1L).build());
+        ByteString.Output compressedRecords = ByteString.newOutput();
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressedRecords)) {
+            DataRecordResult.newBuilder().addAllRecord(expected).build().writeTo(outputStream);
+        }
+        assertThat(DataRecordResultDecompressUtils.getRecords(DataRecordResult.newBuilder().setCompressedRecords(compressedRecords.toByteString()).build()), is(expected));
+    }
+    
+    @Test
+    void assertGetCompressedRecordsWhenInflatedSizeExceeded() throws IOException {
+        int inflatedSize = 65 * 1024 * 1024;
+        ByteString.Output compressedRecords = ByteString.newOutput();
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressedRecords)) {
+            CodedOutputStream codedOutputStream = CodedOutputStream.newInstance(outputStream);
+            codedOutputStream.writeTag(DataRecordResult.ACK_ID_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            codedOutputStream.writeUInt32NoTag(inflatedSize);
+            byte[] chunk = new byte[1024 * 1024];
+            for (int i = 0; i < inflatedSize / chunk.length; i++) {
+                codedOutputStream.writeRawBytes(chunk);
+            }
+            codedOutputStream.flush();
+        }
+        DataRecordResult result = DataRecordResult.newBuilder().setCompressedRecords(compressedRecords.toByteString()).build();
+        assertThrows(InvalidProtocolBufferException.class, () -> DataRecordResultDecompressUtils.getRecords(result));
+    }
+}
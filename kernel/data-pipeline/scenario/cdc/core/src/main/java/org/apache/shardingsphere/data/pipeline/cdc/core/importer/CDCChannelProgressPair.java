@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * CDC channel and progress listener pair.
  */
@@ -32,4 +34,6 @@ public final class CDCChannelProgressPair {
     private final PipelineChannel channel;
     
     private final PipelineJobProgressListener jobProgressListener;
+    
+    private final AtomicInteger inflightAckCount = new AtomicInteger();
 }
@@ -61,6 +61,8 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private final int batchSize;
     
+    private final int maxInflightAcks;
+    
     private final long timeoutMillis;
     
     private final PipelineSink sink;
@@ -71,7 +73,10 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
     
-    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000L).expireAfterAccess(5L, TimeUnit.MINUTES).build();
+    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000L).expireAfterAccess(5L, TimeUnit.MINUTES)
+            .executor(Runnable::run).<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>>removalListener((key, value, cause) -> releaseInflightAck(value)).build();
+    
+    private final CDCImporterMetrics metrics = new CDCImporterMetrics();
     
     @Override
     protected void runBlocking() {
@@ -93,10 +98,15 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     @SneakyThrows(InterruptedException.class)
     private void doWithSorting() {
+        if (channelProgressPairs.stream().anyMatch(this::isInflightAckFull)) {
+            TimeUnit.MILLISECONDS.sleep(timeoutMillis);
+            return;
+        }
         if (null != rateLimitAlgorithm) {
             rateLimitAlgorithm.intercept(PipelineSQLOperationType.INSERT, 1);
         }
         List<CSNRecords> csnRecordsList = getCsnRecordsList();
+        metrics.updateMergeQueueDepth(csnRecordsQueue.size());
         if (csnRecordsList.isEmpty()) {
             TimeUnit.MILLISECONDS.sleep(timeoutMillis);
             return;
@@ -122,6 +132,7 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
             if (null == firstRecords) {
                 csnRecords = csnRecordsQueue.poll();
                 firstRecords = csnRecords;
+                metrics.updateHeadOfLineWaitMillis(System.currentTimeMillis() - csnRecords.getCreateTimeMillis());
                 result.add(csnRecords);
             } else if (csnRecords.getCsn() == firstRecords.getCsn()) {
                 csnRecords = csnRecordsQueue.poll();
@@ -191,14 +202,14 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private void processCSNRecords(final CSNRecords csnRecords, final String ackId) {
         List<Record> records = csnRecords.getRecords();
-        ackCache.put(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
+        putAckCache(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
         sink.write(ackId, filterDataRecords(records));
     }
     
     private void processCSNRecordsList(final List<CSNRecords> csnRecordsList, final String ackId) {
         List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
                 new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
-        ackCache.put(ackId, ackValue);
+        putAckCache(ackId, ackValue);
         Collection<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
         csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
         sink.write(ackId, filterDataRecords(records));
@@ -208,9 +219,17 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         return records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
     }
     
+    @SneakyThrows(InterruptedException.class)
     private void doWithoutSorting() {
+        boolean fetched = false;
         for (CDCChannelProgressPair each : channelProgressPairs) {
-            doWithoutSorting(each);
+            if (!isInflightAckFull(each)) {
+                doWithoutSorting(each);
+                fetched = true;
+            }
+        }
+        if (!fetched && !channelProgressPairs.isEmpty()) {
+            TimeUnit.MILLISECONDS.sleep(timeoutMillis);
         }
     }
     
@@ -233,10 +252,30 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
             rateLimitAlgorithm.intercept(PipelineSQLOperationType.INSERT, 1);
         }
         String ackId = CDCAckId.build(importerId).marshal();
-        ackCache.put(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
+        putAckCache(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
         sink.write(ackId, records);
     }
     
+    private boolean isInflightAckFull(final CDCChannelProgressPair channelProgressPair) {
+        return channelProgressPair.getInflightAckCount().get() >= maxInflightAcks;
+    }
+    
+    private void putAckCache(final String ackId, final List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue) {
+        for (Pair<CDCChannelProgressPair, CDCAckPosition> each : ackValue) {
+            each.getLeft().getInflightAckCount().incrementAndGet();
+        }
+        ackCache.put(ackId, ackValue);
+    }
+    
+    private void releaseInflightAck(final List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue) {
+        if (null == ackValue) {
+            return;
+        }
+        for (Pair<CDCChannelProgressPair, CDCAckPosition> each : ackValue) {
+            each.getLeft().getInflightAckCount().decrementAndGet();
+        }
+    }
+    
     /**
      * Ack.
      *
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import lombok.Getter;
+
+/**
+ * CDC importer metrics of CSN ordered merge.
+ */
+@Getter
+public final class CDCImporterMetrics {
+    
+    private volatile int mergeQueueDepth;
+    
+    private volatile long headOfLineWaitMillis;
+    
+    /**
+     * Update merge queue depth.
+     *
+     * @param mergeQueueDepth merge queue depth
+     */
+    public void updateMergeQueueDepth(final int mergeQueueDepth) {
+        this.mergeQueueDepth = mergeQueueDepth;
+    }
+    
+    /**
+     * Update head of line wait milliseconds, which is how long the records with the oldest CSN waited in merge queue.
+     *
+     * @param headOfLineWaitMillis head of line wait milliseconds
+     */
+    public void updateHeadOfLineWaitMillis(final long headOfLineWaitMillis) {
+        this.headOfLineWaitMillis = headOfLineWaitMillis;
+    }
+}
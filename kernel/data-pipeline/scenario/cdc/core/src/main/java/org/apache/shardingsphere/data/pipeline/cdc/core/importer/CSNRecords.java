@@ -35,4 +35,6 @@ public final class CSNRecords {
     private final CDCChannelProgressPair channelProgressPair;
     
     private final List<Record> records;
+    
+    private final long createTimeMillis = System.currentTimeMillis();
 }
@@ -21,8 +21,12 @@ import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.metrics.CDCStreamingMetrics;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultCompressUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -58,9 +62,14 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
-    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+    private final RecordCompressionType compressionType;
+    
+    private final CDCStreamingMetrics metrics = new CDCStreamingMetrics();
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final RecordCompressionType compressionType) {
         this.channel = channel;
         this.database = database;
+        this.compressionType = compressionType;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
         schemaTableNames.stream().filter(each -> each.contains(".")).forEach(each -> {
             String[] split = each.split("\\.");
@@ -80,8 +89,15 @@ public final class PipelineCDCSocketSink implements PipelineSink {
             return new PipelineJobUpdateProgress(0);
         }
         Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
+        DataRecordResult.Builder dataRecordResultBuilder = DataRecordResult.newBuilder().setAckId(ackId);
+        if (RecordCompressionType.DEFLATE == compressionType) {
+            dataRecordResultBuilder.setCompressedRecords(DataRecordResultCompressUtils.compress(resultRecords));
+        } else {
+            dataRecordResultBuilder.addAllRecord(resultRecords);
+        }
+        CDCResponse response = CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResultBuilder.build());
+        channel.writeAndFlush(response);
+        metrics.record(resultRecords, response.getSerializedSize());
         return new PipelineJobUpdateProgress(resultRecords.size());
     }
     
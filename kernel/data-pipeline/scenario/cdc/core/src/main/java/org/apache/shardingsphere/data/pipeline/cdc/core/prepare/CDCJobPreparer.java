@@ -132,7 +132,7 @@ public final class CDCJobPreparer {
             InventoryDataRecordPositionCreator positionCreator = each.hasUniqueKey() ? new UniqueKeyInventoryDataRecordPositionCreator() : new PlaceholderInventoryDataRecordPositionCreator();
             Dumper dumper = new InventoryDumper(each, channel, jobItemContext.getSourceDataSource(), positionCreator);
             Importer importer = importerUsed.get() ? null
-                    : new CDCImporter(channelProgressPairs, importerConfig.getBatchSize(), 100L, jobItemContext.getSink(), false, importerConfig.getRateLimitAlgorithm());
+                    : new CDCImporter(channelProgressPairs, importerConfig.getBatchSize(), getMaxInflightAcks(jobItemContext), 100L, jobItemContext.getSink(), false, importerConfig.getRateLimitAlgorithm());
             jobItemContext.getInventoryTasks().add(new CDCInventoryTask(PipelineTaskUtils.generateInventoryTaskId(each), processContext.getInventoryDumperExecuteEngine(),
                     processContext.getInventoryImporterExecuteEngine(), dumper, importer, position));
             if (!(position.get() instanceof IngestFinishedPosition)) {
@@ -153,10 +153,14 @@ public final class CDCJobPreparer {
         Dumper dumper = IncrementalDumperCreator.create(param);
         boolean needSorting = jobItemContext.getJobConfig().isDecodeWithTX();
         Importer importer = importerUsed.get() ? null
-                : new CDCImporter(channelProgressPairs, 1, 100L, jobItemContext.getSink(), needSorting, taskConfig.getImporterConfig().getRateLimitAlgorithm());
+                : new CDCImporter(channelProgressPairs, 1, getMaxInflightAcks(jobItemContext), 100L, jobItemContext.getSink(), needSorting, taskConfig.getImporterConfig().getRateLimitAlgorithm());
         PipelineTask incrementalTask = new CDCIncrementalTask(
                 dumperContext.getCommonContext().getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, importer, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
         importerUsed.set(true);
     }
+    
+    private int getMaxInflightAcks(final CDCJobItemContext jobItemContext) {
+        return jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getMaxInflightAcks();
+    }
 }
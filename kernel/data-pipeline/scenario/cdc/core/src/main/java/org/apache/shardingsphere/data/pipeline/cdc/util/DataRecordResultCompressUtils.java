@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.ByteString;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Data record result compress utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordResultCompressUtils {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    /**
+     * Compress records.
+     *
+     * @param records records
+     * @return compressed records
+     */
+    @SneakyThrows(IOException.class)
+    public static ByteString compress(final Collection<Record> records) {
+        ByteString.Output result = ByteString.newOutput(BUFFER_SIZE);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(result, deflater, BUFFER_SIZE)) {
+            DataRecordResult.newBuilder().addAllRecord(records).build().writeTo(outputStream);
+        } finally {
+            deflater.end();
+        }
+        return result.toByteString();
+    }
+}
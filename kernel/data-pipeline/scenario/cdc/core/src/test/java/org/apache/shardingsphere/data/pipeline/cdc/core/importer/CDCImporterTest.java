@@ -29,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.Pipeli
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -64,7 +65,7 @@ class CDCImporterTest {
         PipelineJobProgressListener progressListener = mock(PipelineJobProgressListener.class);
         AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
         PipelineSink sink = mockSinkWithAck(importerHolder, false);
-        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 10, 1L, sink, false, null);
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 10, 1024, 1L, sink, false, null);
         importerHolder.set(importer);
         importer.start();
         importer.stop();
@@ -78,7 +79,7 @@ class CDCImporterTest {
         PipelineChannel channel = mockNonSortingChannel(Collections.singletonList(asList(createFinishedRecord())));
         PipelineJobProgressListener progressListener = mock(PipelineJobProgressListener.class);
         PipelineSink sink = mockSimpleSink();
-        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 1, 1L, sink, false, null);
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 1, 1024, 1L, sink, false, null);
         importer.start();
         importer.stop();
         assertThat(captureAckRecords(channel, 1).get(0).get(0), instanceOf(FinishedRecord.class));
@@ -92,7 +93,7 @@ class CDCImporterTest {
         JobRateLimitAlgorithm rateLimitAlgorithm = mock(JobRateLimitAlgorithm.class);
         AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
         PipelineSink sink = mockSinkWithAck(importerHolder, true);
-        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 1, 1L, sink, false, rateLimitAlgorithm);
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 1, 1024, 1L, sink, false, rateLimitAlgorithm);
         importerHolder.set(importer);
         importer.start();
         verify(rateLimitAlgorithm).intercept(PipelineSQLOperationType.INSERT, 1);
@@ -101,13 +102,34 @@ class CDCImporterTest {
     }
     
     @Test
-    void assertDoWithSortingHandlesEmptyAndSingleTransaction() {
+    void assertDoWithoutSortingKeepsInflightAckUntilAcked() {
+        PipelineChannel channel = mockNonSortingChannel(Collections.singletonList(asList(createDataRecord(5L))));
+        CDCChannelProgressPair channelProgressPair = new CDCChannelProgressPair(channel, mock(PipelineJobProgressListener.class));
+        AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
+        AtomicReference<String> ackIdHolder = new AtomicReference<>();
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(anyString(), anyCollection())).thenAnswer(invocation -> {
+            ackIdHolder.set(invocation.getArgument(0));
+            importerHolder.get().stop();
+            return new PipelineJobUpdateProgress(1);
+        });
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(channelProgressPair)), 1, 1024, 1L, sink, false, null);
+        importerHolder.set(importer);
+        importer.start();
+        assertThat(channelProgressPair.getInflightAckCount().get(), is(1));
+        importer.ack(ackIdHolder.get());
+        assertThat(channelProgressPair.getInflightAckCount().get(), is(0));
+    }
+    
+    @Test
+    void assertDoWithSortingHandlesEmptyAndSingleTransaction() throws ReflectiveOperationException {
         Queue<List<Record>> transactions = new LinkedList<>(Arrays.asList(Collections.emptyList(), asList(createFinishedRecord(), createDataRecord(2L), createFinishedRecord())));
         PipelineChannel channel = mockSortingChannel(transactions);
         PipelineJobProgressListener progressListener = mock(PipelineJobProgressListener.class);
         AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
         PipelineSink sink = mockSinkWithAck(importerHolder, false);
-        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 1, 1L, sink, true, null);
+        CDCChannelProgressPair channelProgressPair = new CDCChannelProgressPair(channel, progressListener);
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(channelProgressPair)), 1, 1024, 1L, sink, true, null);
         importerHolder.set(importer);
         importer.start();
         importer.stop();
@@ -115,6 +137,8 @@ class CDCImporterTest {
         assertThat(ackedRecords.size(), is(1));
         assertThat(ackedRecords.get(0).get(0), instanceOf(FinishedRecord.class));
         assertThat(captureProgressCounts(progressListener, 2), contains(0, 1));
+        assertThat(channelProgressPair.getInflightAckCount().get(), is(0));
+        assertThat(((CDCImporterMetrics) Plugins.getMemberAccessor().get(CDCImporter.class.getDeclaredField("metrics"), importer)).getMergeQueueDepth(), is(0));
     }
     
     @Test
@@ -135,7 +159,7 @@ class CDCImporterTest {
         JobRateLimitAlgorithm rateLimitAlgorithm = mock(JobRateLimitAlgorithm.class);
         AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
         PipelineSink sink = mockSinkWithAck(importerHolder, true);
-        CDCImporter importer = new CDCImporter(pairs, 2, 1L, sink, true, rateLimitAlgorithm);
+        CDCImporter importer = new CDCImporter(pairs, 2, 1024, 1L, sink, true, rateLimitAlgorithm);
         importerHolder.set(importer);
         importer.start();
         verify(rateLimitAlgorithm).intercept(PipelineSQLOperationType.INSERT, 1);
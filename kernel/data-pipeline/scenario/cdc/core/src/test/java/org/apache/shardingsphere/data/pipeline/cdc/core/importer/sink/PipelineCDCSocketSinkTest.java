@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.metrics.CDCStreamingMetrics;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
@@ -30,12 +32,17 @@ import org.apache.shardingsphere.infra.exception.external.sql.sqlstate.XOpenSQLS
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -46,13 +53,13 @@ class PipelineCDCSocketSinkTest {
     
     @Test
     void assertWriteWhenRecordsEmpty() {
-        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mock(), mock(), Arrays.asList("logic.t_order", "t_without_schema"))) {
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mock(), mock(), Arrays.asList("logic.t_order", "t_without_schema"), RecordCompressionType.NONE)) {
             assertThat(sink.write("ack", Collections.emptyList()).getProcessedRecordsCount(), is(0));
         }
     }
     
     @Test
-    void assertWriteWhenChannelWritable() {
+    void assertWriteWhenChannelWritable() throws ReflectiveOperationException {
         Channel channel = mock(Channel.class);
         when(channel.isWritable()).thenReturn(false, true);
         when(channel.isActive()).thenReturn(true);
@@ -61,7 +68,7 @@ class PipelineCDCSocketSinkTest {
         DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.UPDATE, "t_order", new IngestPlaceholderPosition(), 1);
         dataRecord.addColumn(new NormalColumn("order_id", 1, 2, true, true));
         FinishedRecord finishedRecord = new FinishedRecord(new IngestPlaceholderPosition());
-        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, database, Collections.singletonList("logic_schema.t_order"))) {
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, database, Collections.singletonList("logic_schema.t_order"), RecordCompressionType.NONE)) {
             PipelineJobUpdateProgress actual = sink.write("ack", Arrays.asList(finishedRecord, dataRecord));
             assertThat(actual.getProcessedRecordsCount(), is(1));
             ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
@@ -74,6 +81,34 @@ class PipelineCDCSocketSinkTest {
             assertThat(actualRecord.getMetaData().getDatabase(), is("logic_db"));
             assertThat(actualRecord.getMetaData().getSchema(), is("logic_schema"));
             assertThat(actualRecord.getMetaData().getTable(), is("t_order"));
+            CDCStreamingMetrics metrics = (CDCStreamingMetrics) Plugins.getMemberAccessor().get(PipelineCDCSocketSink.class.getDeclaredField("metrics"), sink);
+            assertThat(metrics.getRecordsCount(), is(1L));
+            assertThat(metrics.getBytesCount(), is((long) actualResponse.getSerializedSize()));
+        }
+    }
+    
+    @Test
+    void assertWriteWithDeflateCompression() throws IOException {
+        Channel channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("logic_db");
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        dataRecord.addColumn(new NormalColumn("order_id", 1, true, true));
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, database, Collections.singletonList("logic_schema.t_order"), RecordCompressionType.DEFLATE)) {
+            assertThat(sink.write("ack", Collections.singletonList(dataRecord)).getProcessedRecordsCount(), is(1));
+            ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
+            verify(channel).writeAndFlush(responseCaptor.capture());
+            DataRecordResult recordResult = responseCaptor.getValue().getDataRecordResult();
+            assertThat(recordResult.getAckId(), is("ack"));
+            assertThat(recordResult.getRecordCount(), is(0));
+            assertTrue(recordResult.hasCompressedRecords());
+            try (InflaterInputStream inputStream = new InflaterInputStream(recordResult.getCompressedRecords().newInput())) {
+                List<DataRecordResult.Record> actualRecords = DataRecordResult.parseFrom(inputStream).getRecordList();
+                assertThat(actualRecords.size(), is(1));
+                assertThat(actualRecords.get(0).getMetaData().getTable(), is("t_order"));
+            }
         }
     }
     
@@ -81,7 +116,7 @@ class PipelineCDCSocketSinkTest {
     void assertWriteWhenChannelInactive() {
         Channel channel = mock(Channel.class);
         DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 0);
-        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mock(), Collections.singletonList("logic_schema.t_order"))) {
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mock(), Collections.singletonList("logic_schema.t_order"), RecordCompressionType.NONE)) {
             PipelineJobUpdateProgress actual = sink.write("ack", Collections.singletonList(dataRecord));
             assertThat(actual.getProcessedRecordsCount(), is(0));
             verify(channel, never()).writeAndFlush(any());
@@ -91,7 +126,7 @@ class PipelineCDCSocketSinkTest {
     @Test
     void assertClose() {
         Channel channel = mock(Channel.class);
-        new PipelineCDCSocketSink(channel, mock(), Collections.singletonList("logic_schema.t_order")).close();
+        new PipelineCDCSocketSink(channel, mock(), Collections.singletonList("logic_schema.t_order"), RecordCompressionType.NONE).close();
         ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
         verify(channel).writeAndFlush(responseCaptor.capture());
         CDCResponse actualResponse = responseCaptor.getValue();
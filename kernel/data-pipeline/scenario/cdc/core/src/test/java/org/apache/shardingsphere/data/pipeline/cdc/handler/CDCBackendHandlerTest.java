@@ -34,6 +34,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCExceptionWrapper
 import org.apache.shardingsphere.data.pipeline.cdc.exception.MissingRequiredStreamDataSourceException;
 import org.apache.shardingsphere.data.pipeline.cdc.exception.StreamDatabaseNotFoundException;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
@@ -172,7 +173,7 @@ class CDCBackendHandlerTest {
         mockProxyContext(mock(ShardingSphereDatabase.class));
         Channel channel = mock(Channel.class);
         CDCConnectionContext connectionContext = createConnectionContext();
-        backendHandler.startStreaming("foo_job", connectionContext, channel);
+        backendHandler.startStreaming("foo_job", RecordCompressionType.NONE, connectionContext, channel);
         ArgumentCaptor<PipelineSink> sinkCaptor = ArgumentCaptor.forClass(PipelineSink.class);
         verify(jobAPI).start(eq("foo_job"), sinkCaptor.capture());
         assertThat(((PipelineCDCSocketSink) sinkCaptor.getValue()).getChannel(), is(channel));
@@ -181,7 +182,7 @@ class CDCBackendHandlerTest {
     
     @Test
     void assertStartStreamingWhenJobConfigMissing() {
-        assertThrows(PipelineJobNotFoundException.class, () -> backendHandler.startStreaming("foo_job", createConnectionContext(), mock(Channel.class)));
+        assertThrows(PipelineJobNotFoundException.class, () -> backendHandler.startStreaming("foo_job", RecordCompressionType.NONE, createConnectionContext(), mock(Channel.class)));
     }
     
     @Test
@@ -202,7 +203,7 @@ class CDCBackendHandlerTest {
         ChannelId targetChannelId = DefaultChannelId.newInstance();
         Channel channel = mockChannel(DefaultChannelId.newInstance());
         CDCJob job = mock(CDCJob.class);
-        when(job.getSink()).thenReturn(new PipelineCDCSocketSink(channel, mock(ShardingSphereDatabase.class), Collections.emptyList()));
+        when(job.getSink()).thenReturn(new PipelineCDCSocketSink(channel, mock(ShardingSphereDatabase.class), Collections.emptyList(), RecordCompressionType.NONE));
         when(PipelineJobRegistry.get("foo_job")).thenReturn(job);
         backendHandler.stopStreaming("foo_job", targetChannelId);
         verifyNoInteractions(jobAPI);
@@ -213,7 +214,7 @@ class CDCBackendHandlerTest {
         ChannelId targetChannelId = DefaultChannelId.newInstance();
         Channel channel = mockChannel(targetChannelId);
         CDCJob job = mock(CDCJob.class);
-        when(job.getSink()).thenReturn(new PipelineCDCSocketSink(channel, mock(ShardingSphereDatabase.class), Collections.emptyList()));
+        when(job.getSink()).thenReturn(new PipelineCDCSocketSink(channel, mock(ShardingSphereDatabase.class), Collections.emptyList(), RecordCompressionType.NONE));
         when(PipelineJobRegistry.get("foo_job")).thenReturn(job);
         backendHandler.stopStreaming("foo_job", targetChannelId);
         verify(jobAPI).disable("foo_job");
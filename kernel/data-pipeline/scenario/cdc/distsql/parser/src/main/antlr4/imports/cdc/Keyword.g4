@@ -79,6 +79,10 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+MAX_INFLIGHT_ACKS
+    : M A X UL_ I N F L I G H T UL_ A C K S
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
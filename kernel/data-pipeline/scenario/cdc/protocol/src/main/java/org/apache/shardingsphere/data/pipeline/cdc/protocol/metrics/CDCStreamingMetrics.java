@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.protocol.metrics;
+
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CDC streaming metrics, shared by sending side and receiving side.
+ */
+public final class CDCStreamingMetrics {
+    
+    private final long startMillis = System.currentTimeMillis();
+    
+    private final LongAdder framesCount = new LongAdder();
+    
+    private final LongAdder recordsCount = new LongAdder();
+    
+    private final LongAdder bytesCount = new LongAdder();
+    
+    private volatile long lagMillis;
+    
+    /**
+     * Record sent or received frame.
+     *
+     * @param records records of frame
+     * @param frameBytes serialized bytes of frame
+     */
+    public void record(final Collection<Record> records, final int frameBytes) {
+        framesCount.increment();
+        recordsCount.add(records.size());
+        bytesCount.add(frameBytes);
+        long latestCommitMillis = 0L;
+        for (Record each : records) {
+            latestCommitMillis = Math.max(latestCommitMillis, each.getTransactionCommitMillis());
+        }
+        if (latestCommitMillis > 0L) {
+            lagMillis = Math.max(0L, System.currentTimeMillis() - latestCommitMillis);
+        }
+    }
+    
+    /**
+     * Get frames count.
+     *
+     * @return frames count
+     */
+    public long getFramesCount() {
+        return framesCount.sum();
+    }
+    
+    /**
+     * Get records count.
+     *
+     * @return records count
+     */
+    public long getRecordsCount() {
+        return recordsCount.sum();
+    }
+    
+    /**
+     * Get bytes count.
+     *
+     * @return bytes count
+     */
+    public long getBytesCount() {
+        return bytesCount.sum();
+    }
+    
+    /**
+     * Get lag milliseconds between the commit time of latest record and the time its frame was sent or received.
+     *
+     * @return lag milliseconds
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+    
+    /**
+     * Get records per second since streaming started.
+     *
+     * @return records per second
+     */
+    public double getRecordsPerSecond() {
+        return recordsCount.sum() * 1000D / Math.max(1L, System.currentTimeMillis() - startMillis);
+    }
+}
@@ -30,7 +30,10 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.PartitionedChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.DialectIncrementalDumperCreator;
@@ -71,8 +74,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Migration job preparer.
@@ -175,9 +180,20 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, taskConfig.getImporterConfig().getBatchSize(), 1000L,
-                jobItemContext.getSink(), jobItemContext));
+        ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
+        int incrementalPartitions = jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getIncrementalPartitions();
+        Collection<Importer> importers = Collections.singletonList(incrementalPartitions > 1
+                ? new PartitionedChannelConsumerImporter(channel, importerConfig.getBatchSize(), 1000L, createSinks(jobItemContext, incrementalPartitions), jobItemContext)
+                : new SingleChannelConsumerImporter(channel, importerConfig.getBatchSize(), 1000L, jobItemContext.getSink(), jobItemContext));
         PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private List<PipelineSink> createSinks(final MigrationJobItemContext jobItemContext, final int count) {
+        List<PipelineSink> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(jobItemContext.getSink());
+        }
+        return result;
+    }
 }
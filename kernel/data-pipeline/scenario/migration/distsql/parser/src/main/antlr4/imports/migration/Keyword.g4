@@ -115,6 +115,10 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+INCREMENTAL_PARTITIONS
+    : I N C R E M E N T A L UL_ P A R T I T I O N S
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.metadata.schema;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeImpl;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.impl.ViewTable;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeFactory;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL federation table map.
+ *
+ * <p>Tables are resolved from ShardingSphere schema on first access, so tables which are pending to load lazily are not loaded by listing.</p>
+ */
+@RequiredArgsConstructor
+final class SQLFederationTableMap extends AbstractMap<String, Table> {
+    
+    private final ShardingSphereSchema schema;
+    
+    private final DatabaseType protocolType;
+    
+    private final Map<ShardingSphereIdentifier, Table> tables = new ConcurrentHashMap<>();
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && schema.containsTable((String) key);
+    }
+    
+    @Override
+    public Table get(final Object key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        ShardingSphereIdentifier identifier = new ShardingSphereIdentifier((String) key);
+        Table result = tables.get(identifier);
+        if (null != result) {
+            return result;
+        }
+        ShardingSphereTable table = schema.getTable((String) key);
+        if (null == table) {
+            return null;
+        }
+        Table created = schema.containsView(table.getName()) ? getViewTable(table) : new SQLFederationTable(table, protocolType);
+        result = tables.putIfAbsent(identifier, created);
+        return null == result ? created : result;
+    }
+    
+    private ViewTable getViewTable(final ShardingSphereTable table) {
+        RelDataType relDataType = SQLFederationDataTypeBuilder.build(table, protocolType, SQLFederationDataTypeFactory.getInstance());
+        ShardingSphereView view = schema.getView(table.getName());
+        return new ViewTable(new JavaTypeFactoryImpl().getJavaClass(relDataType), RelDataTypeImpl.proto(relDataType), view.getViewDefinition(), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    @Override
+    public int size() {
+        return schema.getAllTableNames().size();
+    }
+    
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            
+            @Override
+            public Iterator<String> iterator() {
+                return schema.getAllTableNames().iterator();
+            }
+            
+            @Override
+            public int size() {
+                return SQLFederationTableMap.this.size();
+            }
+            
+            @Override
+            public boolean contains(final Object key) {
+                return containsKey(key);
+            }
+        };
+    }
+    
+    @Override
+    public Set<Entry<String, Table>> entrySet() {
+        return new AbstractSet<Entry<String, Table>>() {
+            
+            @Override
+            public Iterator<Entry<String, Table>> iterator() {
+                Iterator<String> tableNames = schema.getAllTableNames().iterator();
+                return new Iterator<Entry<String, Table>>() {
+                    
+                    @Override
+                    public boolean hasNext() {
+                        return tableNames.hasNext();
+                    }
+                    
+                    @Override
+                    public Entry<String, Table> next() {
+                        return new LazyTableEntry(tableNames.next());
+                    }
+                };
+            }
+            
+            @Override
+            public int size() {
+                return SQLFederationTableMap.this.size();
+            }
+        };
+    }
+    
+    @RequiredArgsConstructor
+    private final class LazyTableEntry implements Entry<String, Table> {
+        
+        private final String key;
+        
+        @Override
+        public String getKey() {
+            return key;
+        }
+        
+        @Override
+        public Table getValue() {
+            return get(key);
+        }
+        
+        @Override
+        public Table setValue(final Table value) {
+            throw new UnsupportedOperationException("setValue");
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sqlfederation.compiler.metadata.schema;
 
 import org.apache.calcite.schema.impl.ViewTable;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
@@ -30,10 +31,13 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLFederationSchemaTest {
     
@@ -49,6 +53,24 @@ class SQLFederationSchemaTest {
         assertThat(actual.getTableMap().get("foo_view"), isA(ViewTable.class));
     }
     
+    @Test
+    void assertNewWithPendingTables() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_schema", new LazyTableLoader(Collections.singleton("foo_table"), tableName -> {
+            loadCount.incrementAndGet();
+            return createTable(tableName);
+        }, 1));
+        SQLFederationSchema actual = new SQLFederationSchema("foo_schema", schema, databaseType);
+        assertThat(actual.getTableMap().keySet(), is(Collections.singleton("foo_table")));
+        assertTrue(actual.getTableMap().containsKey("FOO_TABLE"));
+        assertThat(actual.getTableMap().entrySet().iterator().next().getKey(), is("foo_table"));
+        assertThat(loadCount.get(), is(0));
+        assertThat(actual.getTableMap().get("foo_table"), isA(SQLFederationTable.class));
+        assertThat(actual.getTableMap().get("foo_table"), is(actual.getTableMap().get("FOO_TABLE")));
+        assertThat(loadCount.get(), is(1));
+        assertNull(actual.getTableMap().get("bar_table"));
+    }
+    
     private ShardingSphereTable createTable(final String tableName) {
         ShardingSphereColumn column = new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, true);
         return new ShardingSphereTable(tableName, Collections.singletonList(column), Collections.emptyList(), Collections.emptyList());
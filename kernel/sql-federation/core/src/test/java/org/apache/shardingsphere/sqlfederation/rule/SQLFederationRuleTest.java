@@ -17,8 +17,15 @@
 
 package org.apache.shardingsphere.sqlfederation.rule;
 
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableLoader;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContextFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.InvalidExecutionPlanCacheConfigException;
@@ -29,10 +36,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -80,4 +89,19 @@ class SQLFederationRuleTest {
             mockedFactory.verify(() -> CompilerContextFactory.create(Collections.singleton(database)), times(2));
         }
     }
+    
+    @Test
+    void assertConstructWithPendingTables() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", new LazyTableLoader(Collections.singleton("foo_tbl"), tableName -> {
+            loadCount.incrementAndGet();
+            return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }, 1));
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", TypedSPILoader.getService(DatabaseType.class, "FIXTURE"),
+                new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.singleton(schema));
+        SQLFederationRule rule = new SQLFederationRule(new SQLFederationRuleConfiguration(true, true, new SQLFederationCacheOption(4, 64L)), Collections.singleton(database));
+        rule.refresh(Collections.singleton(database), GlobalRuleChangedType.DATABASE_CHANGED);
+        assertThat(loadCount.get(), is(0));
+        assertTrue(schema.containsTable("foo_tbl"));
+    }
 }
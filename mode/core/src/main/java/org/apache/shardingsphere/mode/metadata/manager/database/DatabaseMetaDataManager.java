@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
@@ -100,6 +101,7 @@ public final class DatabaseMetaDataManager {
             return;
         }
         database.dropSchema(schemaName);
+        database.getRuleMetaData().getAttributes(CacheRuleAttribute.class).forEach(CacheRuleAttribute::invalidateAll);
         if (database.getSchema(schemaName).getAllTables().stream().anyMatch(each -> TableRefreshUtils.isSingleTable(each.getName(), database))) {
             database.reloadRules();
         }
@@ -118,9 +120,10 @@ public final class DatabaseMetaDataManager {
         ShardingSphereDatabase database = metaData.getDatabase(databaseName);
         ShardingSphereSchema schema = database.getSchema(schemaName);
         // TODO @haoran
-        ShardingSphereSchema renamedSchema = new ShardingSphereSchema(renamedSchemaName, schema.getAllTables(), schema.getAllViews());
+        ShardingSphereSchema renamedSchema = new ShardingSphereSchema(renamedSchemaName, schema, schema.getAllViews());
         database.addSchema(renamedSchema);
         database.dropSchema(schemaName);
+        database.getRuleMetaData().getAttributes(CacheRuleAttribute.class).forEach(CacheRuleAttribute::invalidateAll);
         database.reloadRules();
         metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
     }
@@ -154,6 +157,7 @@ public final class DatabaseMetaDataManager {
         }
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         alterAction.accept(database.getSchema(schemaName));
+        database.getRuleMetaData().getAttributes(CacheRuleAttribute.class).forEach(each -> each.invalidate(schemaName, tableOrViewName));
         if (TableRefreshUtils.isSingleTable(tableOrViewName, database)) {
             database.reloadRules();
         }
@@ -193,6 +197,7 @@ public final class DatabaseMetaDataManager {
             database.getSchema(schemaName).removeView(toBeDroppedTableOrViewName);
         }
         database.getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class).forEach(each -> each.remove(schemaName, toBeDroppedTableOrViewName));
+        database.getRuleMetaData().getAttributes(CacheRuleAttribute.class).forEach(each -> each.invalidate(schemaName, toBeDroppedTableOrViewName));
         metaDataContexts.getMetaData().getGlobalRuleMetaData().getRules()
                 .forEach(each -> ((GlobalRule) each).refresh(metaDataContexts.getMetaData().getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
     }
@@ -122,7 +122,7 @@ public final class StorageUnitManager {
     }
     
     private ShardingSphereSchema buildSchema(final ShardingSphereDatabase originalDatabase, final ShardingSphereSchema schema) {
-        return new ShardingSphereSchema(schema.getName(), schema.getAllTables(), metaDataPersistFacade.getDatabaseMetaDataFacade().getView().load(originalDatabase.getName(), schema.getName()));
+        return new ShardingSphereSchema(schema.getName(), schema, metaDataPersistFacade.getDatabaseMetaDataFacade().getView().load(originalDatabase.getName(), schema.getName()));
     }
     
     @SneakyThrows(Exception.class)
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.mode.exception.LoadTableMetaDataFailedException
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.DatabaseMetaDataPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.SchemaMetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.service.StorageUnitFingerprintPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableMetaDataPersistDisabledService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableMetaDataPersistEnabledService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.ViewMetaDataPersistService;
@@ -57,6 +58,8 @@ public final class DatabaseMetaDataPersistFacade {
     
     private final ViewMetaDataPersistService view;
     
+    private final StorageUnitFingerprintPersistService fingerprint;
+    
     public DatabaseMetaDataPersistFacade(final PersistRepository repository, final VersionPersistService versionPersistService, final boolean persistSchemasEnabled) {
         database = new DatabaseMetaDataPersistService(repository);
         if (persistSchemasEnabled) {
@@ -66,6 +69,7 @@ public final class DatabaseMetaDataPersistFacade {
         }
         view = new ViewMetaDataPersistService(repository, versionPersistService);
         schema = new SchemaMetaDataPersistService(repository, table, view);
+        fingerprint = new StorageUnitFingerprintPersistService(repository);
     }
     
     /**
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.type.database.metadata.datasource.StorageUnitFingerprintNodePath;
+import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Storage unit fingerprint persist service.
+ */
+@RequiredArgsConstructor
+public final class StorageUnitFingerprintPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Load fingerprints.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @return bucket and fingerprint map
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Long> load(final String databaseName, final String storageUnitName) {
+        String content = repository.query(NodePathGenerator.toPath(new StorageUnitFingerprintNodePath(databaseName, storageUnitName)));
+        if (Strings.isNullOrEmpty(content)) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Object> fingerprints = YamlEngine.unmarshal(content, Map.class);
+        Map<Integer, Long> result = new LinkedHashMap<>(fingerprints.size(), 1F);
+        for (Entry<Object, Object> entry : fingerprints.entrySet()) {
+            result.put(Integer.parseInt(entry.getKey().toString()), Long.parseLong(entry.getValue().toString()));
+        }
+        return result;
+    }
+    
+    /**
+     * Persist fingerprints.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @param fingerprints bucket and fingerprint map
+     */
+    public void persist(final String databaseName, final String storageUnitName, final Map<Integer, Long> fingerprints) {
+        repository.persist(NodePathGenerator.toPath(new StorageUnitFingerprintNodePath(databaseName, storageUnitName)), YamlEngine.marshal(fingerprints));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema snapshot validation context manager lifecycle listener.
+ * 
+ * <p>Only the compute node which holds the exclusive schema snapshot validation operation validates and persists schemas, other compute nodes skip validation.</p>
+ */
+@Slf4j
+public final class SchemaSnapshotValidationContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<ContextManager, ExecutorService> executors = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        ConfigurationProperties props = contextManager.getMetaDataContexts().getMetaData().getProps();
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SCHEMA_SNAPSHOT_VALIDATION_ENABLED) || !props.<Boolean>getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("schema-snapshot-validation-%d"));
+        executors.put(contextManager, executor);
+        executor.execute(() -> validate(contextManager));
+        executor.shutdown();
+    }
+    
+    private void validate(final ContextManager contextManager) {
+        SchemaSnapshotValidator validator = new SchemaSnapshotValidator(contextManager);
+        try {
+            contextManager.getExclusiveOperatorEngine().operate(new SchemaSnapshotValidationOperation(), 0L,
+                    () -> contextManager.getMetaDataContexts().getMetaData().getAllDatabases().forEach(validator::validate));
+        } catch (final SQLException ex) {
+            log.warn("Validate schema snapshot failed", ex);
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        ExecutorService executor = executors.remove(contextManager);
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.type.TableFingerprintLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.DatabaseMetaDataPersistFacade;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Schema snapshot validator.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaSnapshotValidator {
+    
+    private static final int BUCKET_SIZE = 256;
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Validate persisted schemas of database against actual tables of storage units.
+     *
+     * <p>Tables whose fingerprint changed, or all tables of storage unit without persisted fingerprints, are reloaded and compared with persisted schemas.
+     * Changed and new tables are altered, and tables which do not exist in any storage unit are dropped.
+     * System databases and databases without storage units are skipped, and tables are dropped only if actual tables of all storage units are loaded and not empty.</p>
+     *
+     * @param database database
+     */
+    public void validate(final ShardingSphereDatabase database) {
+        if (database.getResourceMetaData().getStorageUnits().isEmpty() || new SystemDatabase(database.getProtocolType()).getSystemDatabases().contains(database.getName())) {
+            return;
+        }
+        DatabaseMetaDataPersistFacade persistFacade = contextManager.getPersistServiceFacade().getMetaDataFacade().getDatabaseMetaDataFacade();
+        Collection<String> actualTables = new HashSet<>();
+        Collection<String> changedActualTables = new HashSet<>();
+        Map<String, Map<Integer, Long>> actualBucketFingerprints = new LinkedHashMap<>();
+        for (Entry<String, StorageUnit> entry : database.getResourceMetaData().getStorageUnits().entrySet()) {
+            Map<String, Long> tableFingerprints;
+            try {
+                tableFingerprints = loadTableFingerprints(entry.getValue());
+            } catch (final SQLException ex) {
+                log.warn("Load table fingerprints of database: {} with storage unit: {} failed", database.getName(), entry.getKey(), ex);
+                continue;
+            }
+            Map<Integer, Long> bucketFingerprints = getBucketFingerprints(tableFingerprints);
+            actualTables.addAll(tableFingerprints.keySet());
+            changedActualTables.addAll(getChangedActualTables(tableFingerprints, persistFacade.getFingerprint().load(database.getName(), entry.getKey()), bucketFingerprints));
+            actualBucketFingerprints.put(entry.getKey(), bucketFingerprints);
+        }
+        try {
+            if (!changedActualTables.isEmpty()) {
+                log.info("Schema snapshot of database: {} changed, start to reload tables: {}", database.getName(), changedActualTables);
+                reloadTables(database, persistFacade, getLogicTables(database, changedActualTables));
+            }
+        } catch (final SQLException ex) {
+            log.warn("Reload tables of database: {} failed", database.getName(), ex);
+            return;
+        }
+        if (!actualTables.isEmpty() && actualBucketFingerprints.size() == database.getResourceMetaData().getStorageUnits().size()) {
+            dropTables(database, persistFacade, getLogicTables(database, actualTables));
+        }
+        actualBucketFingerprints.forEach((key, value) -> persistFacade.getFingerprint().persist(database.getName(), key, value));
+    }
+    
+    private Map<String, Long> loadTableFingerprints(final StorageUnit storageUnit) throws SQLException {
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return TableFingerprintLoader.load(connection);
+        }
+    }
+    
+    private Map<Integer, Long> getBucketFingerprints(final Map<String, Long> tableFingerprints) {
+        Map<Integer, Map<String, Long>> buckets = new TreeMap<>();
+        tableFingerprints.forEach((key, value) -> buckets.computeIfAbsent(getBucket(key), unused -> new TreeMap<>()).put(key, value));
+        Map<Integer, Long> result = new LinkedHashMap<>(buckets.size(), 1F);
+        for (Entry<Integer, Map<String, Long>> entry : buckets.entrySet()) {
+            CRC32 digest = new CRC32();
+            entry.getValue().forEach((key, value) -> digest.update((key + ":" + value + ";").getBytes(StandardCharsets.UTF_8)));
+            result.put(entry.getKey(), digest.getValue());
+        }
+        return result;
+    }
+    
+    private int getBucket(final String tableName) {
+        return Math.floorMod(tableName.toLowerCase().hashCode(), BUCKET_SIZE);
+    }
+    
+    private Collection<String> getChangedActualTables(final Map<String, Long> tableFingerprints, final Map<Integer, Long> expected, final Map<Integer, Long> actual) {
+        if (expected.isEmpty()) {
+            return tableFingerprints.keySet();
+        }
+        Collection<Integer> changedBuckets = new HashSet<>(expected.keySet());
+        changedBuckets.addAll(actual.keySet());
+        changedBuckets.removeIf(each -> Objects.equals(expected.get(each), actual.get(each)));
+        return tableFingerprints.keySet().stream().filter(each -> changedBuckets.contains(getBucket(each))).collect(Collectors.toList());
+    }
+    
+    private Collection<String> getLogicTables(final ShardingSphereDatabase database, final Collection<String> actualTables) {
+        Collection<DataNodeRuleAttribute> ruleAttributes = database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class);
+        Collection<String> result = new HashSet<>(actualTables.size(), 1F);
+        for (String each : actualTables) {
+            result.add(ruleAttributes.stream().map(attribute -> attribute.findLogicTableByActualTable(each)).filter(Optional::isPresent).map(Optional::get).findFirst().orElse(each));
+        }
+        return result;
+    }
+    
+    private void reloadTables(final ShardingSphereDatabase database, final DatabaseMetaDataPersistFacade persistFacade, final Collection<String> logicTables) throws SQLException {
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getResourceMetaData().getStorageUnits(), database.getRuleMetaData().getRules(),
+                contextManager.getMetaDataContexts().getMetaData().getProps(), getDefaultSchemaName(database));
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(logicTables, database.getProtocolType(), material).entrySet()) {
+            if (!database.containsSchema(entry.getKey())) {
+                continue;
+            }
+            ShardingSphereSchema currentSchema = database.getSchema(entry.getKey());
+            Collection<ShardingSphereTable> toBeAlteredTables = GenericSchemaManager.getToBeAddedTables(entry.getValue(), currentSchema).stream()
+                    .filter(each -> !currentSchema.containsView(each.getName())).collect(Collectors.toList());
+            if (!toBeAlteredTables.isEmpty()) {
+                toBeAlteredTables.forEach(each -> contextManager.getMetaDataContextManager().getDatabaseMetaDataManager().alterTable(database.getName(), entry.getKey(), each));
+                persistFacade.getTable().persist(database.getName(), entry.getKey(), toBeAlteredTables);
+            }
+        }
+    }
+    
+    private void dropTables(final ShardingSphereDatabase database, final DatabaseMetaDataPersistFacade persistFacade, final Collection<String> logicTables) {
+        String schemaName = getDefaultSchemaName(database);
+        if (!database.containsSchema(schemaName)) {
+            return;
+        }
+        Collection<String> actualLogicTables = logicTables.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        Collection<String> toBeDroppedTables = database.getSchema(schemaName).getAllTables().stream()
+                .map(ShardingSphereTable::getName).filter(each -> !actualLogicTables.contains(each.toLowerCase())).collect(Collectors.toList());
+        if (toBeDroppedTables.isEmpty()) {
+            return;
+        }
+        log.info("Tables: {} of database: {} do not exist in storage units, start to drop them", toBeDroppedTables, database.getName());
+        for (String each : toBeDroppedTables) {
+            contextManager.getMetaDataContextManager().getDatabaseMetaDataManager().dropTable(database.getName(), schemaName, each);
+            persistFacade.getTable().drop(database.getName(), schemaName, each);
+        }
+    }
+    
+    private String getDefaultSchemaName(final ShardingSphereDatabase database) {
+        return new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName());
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -149,6 +150,16 @@ class DatabaseMetaDataManagerTest {
         verify(metaDataContexts.getMetaData().getDatabase("foo_db")).reloadRules();
     }
     
+    @Test
+    void assertDropSchemaWithCacheInvalidated() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(schema);
+        CacheRuleAttribute attribute = mock(CacheRuleAttribute.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getRuleMetaData().getAttributes(CacheRuleAttribute.class)).thenReturn(Collections.singleton(attribute));
+        databaseMetaDataManager.dropSchema("foo_db", "foo_schema");
+        verify(attribute).invalidateAll();
+    }
+    
     @Test
     void assertRenameSchema() {
         ShardingSphereSchema schema = createToBeAlteredSchema();
@@ -181,6 +192,15 @@ class DatabaseMetaDataManagerTest {
         assertTrue(table.containsColumn("foo_col"));
     }
     
+    @Test
+    void assertAlterTableWithCacheInvalidated() {
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(createToBeAlteredSchema());
+        CacheRuleAttribute attribute = mock(CacheRuleAttribute.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getRuleMetaData().getAttributes(CacheRuleAttribute.class)).thenReturn(Collections.singleton(attribute));
+        databaseMetaDataManager.alterTable("foo_db", "foo_schema", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        verify(attribute).invalidate("foo_schema", "foo_tbl");
+    }
+    
     @Test
     void assertAlterTableWithSingleTableReloadRules() {
         ShardingSphereSchema toBeAlteredSchema = createToBeAlteredSchema();
@@ -221,6 +241,16 @@ class DatabaseMetaDataManagerTest {
         assertFalse(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema").containsTable("foo_tbl"));
     }
     
+    @Test
+    void assertDropTableWithCacheInvalidated() {
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(createToBeAlteredSchema());
+        mockMutableDataNodeRuleAttribute();
+        CacheRuleAttribute attribute = mock(CacheRuleAttribute.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getRuleMetaData().getAttributes(CacheRuleAttribute.class)).thenReturn(Collections.singleton(attribute));
+        databaseMetaDataManager.dropTable("foo_db", "foo_schema", "foo_tbl");
+        verify(attribute).invalidate("foo_schema", "foo_tbl");
+    }
+    
     @Test
     void assertDropView() {
         when(metaDataContexts.getMetaData().getDatabase("foo_db").getAllSchemas()).thenReturn(Collections.singleton(createToBeAlteredSchema()));
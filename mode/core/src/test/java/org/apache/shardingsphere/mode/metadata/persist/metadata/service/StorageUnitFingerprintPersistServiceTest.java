@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorageUnitFingerprintPersistServiceTest {
+    
+    private StorageUnitFingerprintPersistService persistService;
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        persistService = new StorageUnitFingerprintPersistService(repository);
+    }
+    
+    @Test
+    void assertLoadWithoutFingerprints() {
+        assertTrue(persistService.load("foo_db", "foo_ds").isEmpty());
+    }
+    
+    @Test
+    void assertPersistAndLoad() {
+        Map<Integer, Long> fingerprints = new LinkedHashMap<>(2, 1F);
+        fingerprints.put(0, 1L);
+        fingerprints.put(255, 4294967295L);
+        persistService.persist("foo_db", "foo_ds", fingerprints);
+        ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist("/metadata/foo_db/fingerprints/foo_ds", contentCaptor.capture());
+        when(repository.query("/metadata/foo_db/fingerprints/foo_ds")).thenReturn(contentCaptor.getValue());
+        assertThat(persistService.load("foo_db", "foo_ds"), is(fingerprints));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.type.TableFingerprintLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.manager.database.DatabaseMetaDataManager;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.DatabaseMetaDataPersistFacade;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.service.StorageUnitFingerprintPersistService;
+import org.apache.shardingsphere.mode.persist.service.TableMetaDataPersistService;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({TableFingerprintLoader.class, GenericSchemaBuilder.class})
+class SchemaSnapshotValidatorTest {
+    
+    private final StorageUnitFingerprintPersistService fingerprintPersistService = mock(StorageUnitFingerprintPersistService.class);
+    
+    private final TableMetaDataPersistService tablePersistService = mock(TableMetaDataPersistService.class);
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", Collections.singleton(createTable("t_order", Types.INTEGER)), Collections.emptyList());
+    
+    private final StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+    
+    private ContextManager contextManager;
+    
+    private DatabaseMetaDataManager databaseMetaDataManager;
+    
+    private ShardingSphereDatabase database;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        DatabaseMetaDataPersistFacade persistFacade = mock(DatabaseMetaDataPersistFacade.class);
+        when(persistFacade.getFingerprint()).thenReturn(fingerprintPersistService);
+        when(persistFacade.getTable()).thenReturn(tablePersistService);
+        when(contextManager.getPersistServiceFacade().getMetaDataFacade().getDatabaseMetaDataFacade()).thenReturn(persistFacade);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        databaseMetaDataManager = contextManager.getMetaDataContextManager().getDatabaseMetaDataManager();
+        database = mockDatabase();
+    }
+    
+    private ShardingSphereDatabase mockDatabase() throws SQLException {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(storageUnit.getDataSource().getConnection()).thenReturn(mock(Connection.class));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", storageUnit));
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.findLogicTableByActualTable(anyString())).thenReturn(Optional.empty());
+        when(ruleAttribute.findLogicTableByActualTable("t_order_0")).thenReturn(Optional.of("t_order"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(rule)));
+        when(result.containsSchema("foo_db")).thenReturn(true);
+        when(result.getSchema("foo_db")).thenReturn(schema);
+        return result;
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final int dataType) {
+        return new ShardingSphereTable(tableName, Collections.singleton(new ShardingSphereColumn("id", dataType, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+    
+    @Test
+    void assertValidateWithoutPersistedFingerprintsAndUnchangedTables() throws SQLException {
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.singletonMap("t_order_0", 1L));
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(Collections.emptyMap());
+        mockReloadedTables(createTable("t_order", Types.INTEGER));
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(fingerprintPersistService).persist(eq("foo_db"), eq("foo_ds"), anyMap());
+        verify(tablePersistService, never()).persist(anyString(), anyString(), anyCollection());
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertValidateWithoutPersistedFingerprintsAndChangedTables() throws SQLException {
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.singletonMap("t_order_0", 1L));
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(Collections.emptyMap());
+        ShardingSphereTable table = createTable("t_order", Types.BIGINT);
+        mockReloadedTables(table);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", table);
+        verify(tablePersistService).persist("foo_db", "foo_db", Collections.singletonList(table));
+    }
+    
+    @Test
+    void assertValidateWithUnchangedFingerprints() throws SQLException {
+        Map<Integer, Long> persistedFingerprints = getPersistedFingerprints(Collections.singletonMap("t_order_0", 1L));
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.singletonMap("t_order_0", 1L));
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(persistedFingerprints);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(tablePersistService, never()).persist(anyString(), anyString(), anyCollection());
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertValidateWithChangedFingerprints() throws SQLException {
+        Map<Integer, Long> persistedFingerprints = getPersistedFingerprints(Collections.singletonMap("t_order_0", 1L));
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.singletonMap("t_order_0", 2L));
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(persistedFingerprints);
+        ShardingSphereTable table = createTable("t_order", Types.BIGINT);
+        mockReloadedTables(table);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", table);
+        verify(tablePersistService).persist("foo_db", "foo_db", Collections.singletonList(table));
+    }
+    
+    @Test
+    void assertValidateWithNewTable() throws SQLException {
+        Map<Integer, Long> persistedFingerprints = getPersistedFingerprints(Collections.singletonMap("t_order_0", 1L));
+        Map<String, Long> tableFingerprints = new HashMap<>(2, 1F);
+        tableFingerprints.put("t_order_0", 1L);
+        tableFingerprints.put("t_user", 1L);
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(tableFingerprints);
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(persistedFingerprints);
+        ShardingSphereTable table = createTable("t_user", Types.INTEGER);
+        mockReloadedTables(table);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", table);
+        verify(tablePersistService).persist("foo_db", "foo_db", Collections.singletonList(table));
+    }
+    
+    @Test
+    void assertValidateWithMissingTable() throws SQLException {
+        schema.putTable(createTable("t_user", Types.INTEGER));
+        Map<Integer, Long> persistedFingerprints = getPersistedFingerprints(Collections.singletonMap("t_order_0", 1L));
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.singletonMap("t_order_0", 1L));
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(persistedFingerprints);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager).dropTable("foo_db", "foo_db", "t_user");
+        verify(tablePersistService).drop("foo_db", "foo_db", "t_user");
+        verify(tablePersistService, never()).drop("foo_db", "foo_db", "t_order");
+    }
+    
+    @Test
+    void assertValidateWithFailedStorageUnit() throws SQLException {
+        schema.putTable(createTable("t_user", Types.INTEGER));
+        when(storageUnit.getDataSource().getConnection()).thenThrow(SQLException.class);
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+        verify(fingerprintPersistService, never()).persist(anyString(), anyString(), anyMap());
+    }
+    
+    @Test
+    void assertValidateWithSystemDatabase() throws SQLException {
+        schema.putTable(createTable("t_user", Types.INTEGER));
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.emptyMap());
+        try (MockedConstruction<SystemDatabase> ignored = mockConstruction(SystemDatabase.class, (mock, context) -> when(mock.getSystemDatabases()).thenReturn(Collections.singleton("foo_db")))) {
+            new SchemaSnapshotValidator(contextManager).validate(database);
+        }
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+        verify(fingerprintPersistService, never()).persist(anyString(), anyString(), anyMap());
+    }
+    
+    @Test
+    void assertValidateWithoutStorageUnits() {
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager, never()).dropTable(anyString(), anyString(), anyString());
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertValidateWithEmptyActualTables() throws SQLException {
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(Collections.emptyMap());
+        when(fingerprintPersistService.load("foo_db", "foo_ds")).thenReturn(Collections.emptyMap());
+        new SchemaSnapshotValidator(contextManager).validate(database);
+        verify(databaseMetaDataManager, never()).dropTable(anyString(), anyString(), anyString());
+        verify(tablePersistService, never()).drop(anyString(), anyString(), anyString());
+    }
+    
+    private void mockReloadedTables(final ShardingSphereTable... tables) throws SQLException {
+        ShardingSphereSchema reloadedSchema = new ShardingSphereSchema("foo_db", Arrays.asList(tables), Collections.emptyList());
+        when(GenericSchemaBuilder.build(anyCollection(), any(), any())).thenReturn(Collections.singletonMap("foo_db", reloadedSchema));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<Integer, Long> getPersistedFingerprints(final Map<String, Long> tableFingerprints) throws SQLException {
+        StorageUnitFingerprintPersistService persistService = mock(StorageUnitFingerprintPersistService.class);
+        DatabaseMetaDataPersistFacade persistFacade = mock(DatabaseMetaDataPersistFacade.class);
+        when(persistFacade.getFingerprint()).thenReturn(persistService);
+        when(persistFacade.getTable()).thenReturn(mock(TableMetaDataPersistService.class));
+        ContextManager baselineContextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(baselineContextManager.getPersistServiceFacade().getMetaDataFacade().getDatabaseMetaDataFacade()).thenReturn(persistFacade);
+        when(TableFingerprintLoader.load(any(Connection.class))).thenReturn(tableFingerprints);
+        new SchemaSnapshotValidator(baselineContextManager).validate(database);
+        ArgumentCaptor<Map<Integer, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(persistService).persist(eq("foo_db"), eq("foo_ds"), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -33,12 +33,21 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final Integer shardingSize;
     
+    private final Integer incrementalPartitions;
+    
+    private final Integer maxInflightAcks;
+    
     private final AlgorithmSegment rateLimiter;
     
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final Integer incrementalPartitions, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, shardingSize, incrementalPartitions, null, rateLimiter);
+    }
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, shardingSize, null, null, rateLimiter);
+    }
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
-        this.workerThread = workerThread;
-        this.batchSize = batchSize;
-        shardingSize = 10000000;
-        this.rateLimiter = rateLimiter;
+        this(workerThread, batchSize, 10000000, null, null, rateLimiter);
     }
 }
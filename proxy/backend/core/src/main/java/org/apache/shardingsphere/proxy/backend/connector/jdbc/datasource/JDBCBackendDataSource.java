@@ -22,6 +22,7 @@ import org.apache.shardingsphere.database.connector.core.GlobalDataSourceRegistr
 import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.BackendDataSource;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DataSourceConnectionLockRegistry;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.apache.shardingsphere.transaction.spi.ShardingSphereDistributedTransactionManager;
@@ -32,6 +33,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Backend data source of JDBC.
@@ -55,8 +57,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
+        Lock lock = DataSourceConnectionLockRegistry.getLock(dataSource);
+        lock.lock();
+        try {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize);
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+
+/**
+ * Query row batch writer.
+ *
+ * <p>Rows are flushed when the number of written rows reaches the flush threshold, or when bytes written to channel outbound buffer since last flush reach the flush bytes threshold.
+ * Writing waits while the channel is not writable, so no more rows are pulled from the merged result before the client catches up.
+ * Rows are flushed before waiting, and the remaining packets are flushed by {@link #flush()}, so every flush of query rows goes through this writer.</p>
+ */
+public final class QueryRowBatchWriter {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ConnectionResourceLock connectionResourceLock;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytesThreshold;
+    
+    private int unflushedRows;
+    
+    private long bytesBeforeUnwritableAfterLastFlush;
+    
+    public QueryRowBatchWriter(final ChannelHandlerContext context, final ConnectionResourceLock connectionResourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.connectionResourceLock = connectionResourceLock;
+        flushThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        bytesBeforeUnwritableAfterLastFlush = context.channel().bytesBeforeUnwritable();
+    }
+    
+    /**
+     * Write query row.
+     *
+     * @param packet query row packet
+     */
+    public void write(final DatabasePacket packet) {
+        context.write(packet);
+        unflushedRows++;
+        long unflushedBytes = getUnflushedBytes();
+        if (flushThreshold == unflushedRows || flushBytesThreshold > 0L && unflushedBytes >= flushBytesThreshold || !context.channel().isWritable()) {
+            doFlush(unflushedBytes);
+        }
+        connectionResourceLock.doAwait(context);
+    }
+    
+    /**
+     * Flush all written packets.
+     */
+    public void flush() {
+        doFlush(getUnflushedBytes());
+    }
+    
+    private long getUnflushedBytes() {
+        long bytesBeforeUnwritable = context.channel().bytesBeforeUnwritable();
+        bytesBeforeUnwritableAfterLastFlush = Math.max(bytesBeforeUnwritableAfterLastFlush, bytesBeforeUnwritable);
+        return bytesBeforeUnwritableAfterLastFlush - bytesBeforeUnwritable;
+    }
+    
+    private void doFlush(final long unflushedBytes) {
+        context.flush();
+        unflushedRows = 0;
+        bytesBeforeUnwritableAfterLastFlush -= unflushedBytes;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRowBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ConnectionResourceLock connectionResourceLock;
+    
+    @Test
+    void assertWriteWithFlushThreshold() {
+        when(context.channel().isWritable()).thenReturn(true);
+        QueryRowBatchWriter writer = new QueryRowBatchWriter(context, connectionResourceLock, createProperties("2", "0"));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        writer.write(packet);
+        verify(context, never()).flush();
+        writer.write(packet);
+        verify(context).flush();
+        writer.write(packet);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+        verify(connectionResourceLock, times(3)).doAwait(context);
+    }
+    
+    @Test
+    void assertWriteWithFlushBytesThreshold() {
+        when(context.channel().isWritable()).thenReturn(true);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(1000L, 800L, 500L, 400L);
+        QueryRowBatchWriter writer = new QueryRowBatchWriter(context, connectionResourceLock, createProperties("100", "300"));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        writer.write(packet);
+        verify(context, never()).flush();
+        writer.write(packet);
+        verify(context).flush();
+        writer.write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteWhenChannelNotWritable() {
+        when(context.channel().isWritable()).thenReturn(false);
+        QueryRowBatchWriter writer = new QueryRowBatchWriter(context, connectionResourceLock, createProperties("100", "0"));
+        writer.write(mock(DatabasePacket.class));
+        verify(context).flush();
+        verify(connectionResourceLock).doAwait(context);
+    }
+    
+    @Test
+    void assertFlush() {
+        when(context.channel().isWritable()).thenReturn(true);
+        QueryRowBatchWriter writer = new QueryRowBatchWriter(context, connectionResourceLock, createProperties("100", "0"));
+        writer.write(mock(DatabasePacket.class));
+        verify(context, never()).flush();
+        writer.flush();
+        verify(context).flush();
+    }
+    
+    private ConfigurationProperties createProperties(final String flushThreshold, final String flushBytesThreshold) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), flushThreshold),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), flushBytesThreshold)));
+    }
+}
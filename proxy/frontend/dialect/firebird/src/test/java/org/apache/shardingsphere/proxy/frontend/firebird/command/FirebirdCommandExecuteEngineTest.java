@@ -158,6 +158,7 @@ class FirebirdCommandExecuteEngineTest {
         when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(connectionResourceLock);
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
         when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(queryCommandExecutor.getQueryRowPacket()).thenReturn(rowPacket);
         MetaDataContexts metaDataContexts =
@@ -100,6 +100,7 @@ class MySQLCommandExecuteEngineTest {
     @Test
     void assertWriteQueryDataFlushesAndAppendsEof() throws SQLException {
         when(context.channel().isActive()).thenReturn(true);
+        when(context.channel().isWritable()).thenReturn(true);
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
         when(queryCommandExecutor.next()).thenReturn(true, true, false);
         DatabasePacket rowPacket = mock(DatabasePacket.class);
@@ -113,7 +114,7 @@ class MySQLCommandExecuteEngineTest {
         new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
         verify(connectionResourceLock, times(2)).doAwait(context);
         verify(context, times(2)).write(rowPacket);
-        verify(context).flush();
+        verify(context, times(2)).flush();
         verify(context).write(isA(MySQLEofPacket.class));
     }
     
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.PostgreSQLP
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLParameterDescriptionPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.cache.BoundSQLStatementCache;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
@@ -50,6 +51,8 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     
     private final List<Integer> actualParameterMarkerIndexes;
     
+    private final BoundSQLStatementCache boundSQLStatementCache = new BoundSQLStatementCache();
+    
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
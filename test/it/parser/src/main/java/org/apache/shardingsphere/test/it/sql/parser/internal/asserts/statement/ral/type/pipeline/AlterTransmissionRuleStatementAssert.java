@@ -75,6 +75,8 @@ public final class AlterTransmissionRuleStatementAssert {
         }
         assertThat(actual.getWorkerThread(), is(expected.getWorkerThread()));
         assertThat(actual.getBatchSize(), is(expected.getBatchSize()));
+        assertThat(actual.getIncrementalPartitions(), is(expected.getIncrementalPartitions()));
+        assertThat(actual.getMaxInflightAcks(), is(expected.getMaxInflightAcks()));
         assertAlgorithm(assertContext, actual.getRateLimiter(), expected.getRateLimiter(), "rate limiter");
     }
     
@@ -39,6 +39,12 @@ public final class ExpectedWrite {
     @XmlElement(name = "batch-size")
     private Integer batchSize;
     
+    @XmlElement(name = "incremental-partitions")
+    private Integer incrementalPartitions;
+    
+    @XmlElement(name = "max-inflight-acks")
+    private Integer maxInflightAcks;
+    
     @XmlElement(name = "rate-limiter")
     private ExpectedAlgorithm rateLimiter;
 }
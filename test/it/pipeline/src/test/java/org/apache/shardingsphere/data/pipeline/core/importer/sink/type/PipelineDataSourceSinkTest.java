@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +58,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -137,6 +140,27 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord = getDataRecord(PipelineSQLOperationType.UPDATE);
+        DataRecord anotherUpdateRecord = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        anotherUpdateRecord.addColumn(new NormalColumn("id", 2, 2, false, true));
+        anotherUpdateRecord.addColumn(new NormalColumn("user", 30, 40, true, false));
+        anotherUpdateRecord.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.UPDATE, true, false));
+        List<Record> records = new LinkedList<>(Arrays.asList(updateRecord, anotherUpdateRecord, new FinishedRecord(new IngestFinishedPosition())));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement).setObject(1, 20);
+        verify(preparedStatement).setObject(1, 40);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
     @Test
     void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();